@@ -0,0 +1,200 @@
+package com.example.springrest.common.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엑셀 셀 변환 처리량 비교 (cells/sec)
+ * legacy : 기존 ExcelUtils 방식 (호출마다 어노테이션 스캔, Field.get/set, instanceof 분기)
+ * codec  : ClassValue 캐시 + MethodHandle 기반 ExcelCodec
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelCodecBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int COLUMNS = 6;
+    private static final int CELLS = ROWS * COLUMNS;
+
+    public enum Grade {
+        GOLD, SILVER
+    }
+
+    public static class BenchRow {
+        @ExcelColumn(headerName = "ID", order = 1)
+        private String id;
+        @ExcelColumn(headerName = "이름", order = 2)
+        private String name;
+        @ExcelColumn(headerName = "수량", order = 3)
+        private int quantity;
+        @ExcelColumn(headerName = "금액", order = 4)
+        private Long amount;
+        @ExcelColumn(headerName = "단가", order = 5)
+        private BigDecimal price;
+        @ExcelColumn(headerName = "등록일시", order = 6)
+        private LocalDateTime createdAt;
+    }
+
+    private List<BenchRow> data;
+    private String[][] cellValues;
+    private SXSSFWorkbook workbook;
+    private Sheet sheet;
+    private ExcelCellStyles styles;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = new ArrayList<>(ROWS);
+        cellValues = new String[ROWS][];
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < ROWS; i++) {
+            BenchRow row = new BenchRow();
+            row.id = "ID" + i;
+            row.name = "사용자" + i;
+            row.quantity = i;
+            row.amount = i * 1000L;
+            row.price = BigDecimal.valueOf(i, 2);
+            row.createdAt = now.plusMinutes(i);
+            data.add(row);
+            cellValues[i] = new String[] { row.id, row.name, String.valueOf(i), String.valueOf(row.amount),
+                    row.price.toPlainString(), "2025-01-01 09:00:00" };
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpWorkbook() {
+        workbook = new SXSSFWorkbook(100);
+        sheet = workbook.createSheet("bench");
+        styles = ExcelCellStyles.create(workbook);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownWorkbook() throws Exception {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    // --- Write ---
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void writeLegacy() throws IllegalAccessException {
+        List<Field> fields = legacyFields(BenchRow.class);
+        int rowIndex = 0;
+        for (BenchRow item : data) {
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                field.setAccessible(true);
+                legacySetCellValue(row.createCell(i), field.get(item), styles.dateTime());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void writeCodec() {
+        ExcelCodec<BenchRow> codec = ExcelCodec.of(BenchRow.class);
+        int rowIndex = 0;
+        for (BenchRow item : data) {
+            codec.writeRow(item, sheet.createRow(rowIndex++), styles);
+        }
+    }
+
+    // --- Read ---
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void readLegacy(Blackhole bh) throws Exception {
+        List<Field> fields = legacyFields(BenchRow.class);
+        for (String[] values : cellValues) {
+            BenchRow instance = BenchRow.class.getDeclaredConstructor().newInstance();
+            for (int i = 0; i < fields.size(); i++) {
+                legacySetFieldValue(instance, fields.get(i), values[i]);
+            }
+            bh.consume(instance);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CELLS)
+    public void readCodec(Blackhole bh) {
+        ExcelCodec<BenchRow> codec = ExcelCodec.of(BenchRow.class);
+        for (String[] values : cellValues) {
+            BenchRow instance = codec.newInstance();
+            for (int i = 0; i < values.length; i++) {
+                codec.readCell(instance, i, values[i]);
+            }
+            bh.consume(instance);
+        }
+    }
+
+    // --- 기존 리플렉션 방식 (비교 기준) ---
+
+    private static List<Field> legacyFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(ExcelColumn.class)) {
+                fields.add(field);
+            }
+        }
+        fields.sort(Comparator.comparingInt(f -> f.getAnnotation(ExcelColumn.class).order()));
+        return fields;
+    }
+
+    private static void legacySetCellValue(Cell cell, Object value, CellStyle dateStyle) {
+        if (value == null) {
+            cell.setBlank();
+            return;
+        }
+        if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else if (value instanceof LocalDateTime) {
+            cell.setCellValue((LocalDateTime) value);
+            cell.setCellStyle(dateStyle);
+        } else if (value instanceof Date) {
+            cell.setCellValue((Date) value);
+            cell.setCellStyle(dateStyle);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    private static void legacySetFieldValue(Object instance, Field field, String value)
+            throws IllegalAccessException {
+        Class<?> type = field.getType();
+        field.setAccessible(true);
+        if (type == String.class) {
+            field.set(instance, value);
+        } else if (type == int.class || type == Integer.class) {
+            field.set(instance, new BigDecimal(value).intValue());
+        } else if (type == long.class || type == Long.class) {
+            field.set(instance, new BigDecimal(value).longValue());
+        } else if (type == BigDecimal.class) {
+            field.set(instance, new BigDecimal(value));
+        } else if (type == LocalDateTime.class) {
+            field.set(instance, LocalDateTime.parse(value.replace(' ', 'T')));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.domain.scheduler.job.ScheduledJob;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 작업 호출 비용 비교 (ns/op)
+ * reflective : 기존 ScheduleService 방식 (호출마다 getBean + getMethods 탐색 + Method.invoke)
+ * typed      : ScheduleJobRegistry 캐시 + ScheduledJob 직접 호출
+ * handle     : ScheduleJobRegistry 캐시 + ScheduledJob 미구현 빈의 MethodHandle 호출
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleJobDispatchBenchmark {
+
+    public static class TypedJob implements ScheduledJob {
+        private long count;
+
+        @Override
+        public void execute(String beanParam, ScheduleLog scheduleLog) {
+            count += beanParam.length();
+        }
+    }
+
+    public static class LegacyJob {
+        private long count;
+
+        public void execute(String beanParam, ScheduleLog scheduleLog) {
+            count += beanParam.length();
+        }
+    }
+
+    private GenericApplicationContext context;
+    private ScheduleJobRegistry registry;
+    private ScheduleLog scheduleLog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new GenericApplicationContext();
+        context.registerBean("typedJob", TypedJob.class);
+        context.registerBean("legacyJob", LegacyJob.class);
+        context.refresh();
+        registry = new ScheduleJobRegistry(context);
+        scheduleLog = ScheduleLog.builder().result("I").build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void reflective() throws Exception {
+        Object bean = context.getBean("legacyJob");
+        Method method = findExecuteMethod(bean);
+        method.invoke(bean, "{}", scheduleLog);
+    }
+
+    @Benchmark
+    public void typed() throws Exception {
+        registry.get("typedJob").execute("{}", scheduleLog);
+    }
+
+    @Benchmark
+    public void handle() throws Exception {
+        registry.get("legacyJob").execute("{}", scheduleLog);
+    }
+
+    // --- 기존 ScheduleService.findExecuteMethod (비교 기준) ---
+
+    private static Method findExecuteMethod(Object bean) {
+        Method fallback = null;
+        for (Method m : bean.getClass().getMethods()) {
+            if ("execute".equals(m.getName())) {
+                Class<?>[] paramTypes = m.getParameterTypes();
+                if (paramTypes.length == 2 && paramTypes[0] == String.class && paramTypes[1] == ScheduleLog.class) {
+                    return m;
+                }
+                if (paramTypes.length == 0 || (paramTypes.length == 1 && paramTypes[0] == String.class)) {
+                    fallback = m;
+                }
+            }
+        }
+        return fallback;
+    }
+}
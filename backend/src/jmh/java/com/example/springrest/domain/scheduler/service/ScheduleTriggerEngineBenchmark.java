@@ -0,0 +1,110 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트리거 엔진 비교 (스케줄 10만 건)
+ * registerAll : 10만 건 등록 후 전체 취소 (ms/op)
+ * reschedule  : 10만 건 등록 상태에서 임의 스케줄 1건 취소 + 재등록 (ns/op, 스케줄 수정 churn)
+ * 등록 직후 스케줄당 유지 힙은 Setup 에서 출력한다. 할당량은 -prof gc 로 확인.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ScheduleTriggerEngineBenchmark
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ScheduleTriggerEngineBenchmark {
+
+    @Param({"scheduler", "wheel"})
+    public String engine;
+
+    @Param({"100000"})
+    public int count;
+
+    private ThreadPoolTaskScheduler taskScheduler;
+    private TimingWheelTriggerEngine wheelEngine;
+    private ScheduleTriggerEngine triggerEngine;
+    private ScheduleTriggerEngine.TriggerHandle[] handles;
+    private String[] crons;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("wheel".equals(engine)) {
+            wheelEngine = new TimingWheelTriggerEngine(new SchedulerProperties());
+            wheelEngine.start();
+            triggerEngine = wheelEngine;
+        } else {
+            taskScheduler = new ThreadPoolTaskScheduler();
+            taskScheduler.setPoolSize(2);
+            taskScheduler.setRemoveOnCancelPolicy(true);
+            taskScheduler.initialize();
+            triggerEngine = new TaskSchedulerTriggerEngine(taskScheduler);
+        }
+
+        // 테넌트/엔티티별 스케줄을 흉내낸 하루 1회 cron (초/분/시 분산, 실행은 발생하지 않음)
+        crons = new String[count];
+        for (int i = 0; i < count; i++) {
+            crons[i] = (i % 60) + " " + (i / 60 % 60) + " " + (i / 3600 % 24) + " 1 1 *";
+        }
+        handles = new ScheduleTriggerEngine.TriggerHandle[count];
+
+        long before = usedHeapAfterGc();
+        for (int i = 0; i < count; i++) {
+            handles[i] = triggerEngine.schedule(crons[i], fireTime -> { });
+        }
+        long after = usedHeapAfterGc();
+        System.out.printf("%n[%s] %d schedules retained heap ~ %d bytes/schedule%n", engine, count,
+                (after - before) / count);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        for (ScheduleTriggerEngine.TriggerHandle handle : handles) {
+            handle.cancel();
+        }
+        if (wheelEngine != null) {
+            wheelEngine.shutdown();
+        }
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void registerAll() {
+        ScheduleTriggerEngine.TriggerHandle[] registered = new ScheduleTriggerEngine.TriggerHandle[count];
+        for (int i = 0; i < count; i++) {
+            registered[i] = triggerEngine.schedule(crons[i], fireTime -> { });
+        }
+        for (ScheduleTriggerEngine.TriggerHandle handle : registered) {
+            handle.cancel();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void reschedule() {
+        int i = ThreadLocalRandom.current().nextInt(count);
+        handles[i].cancel();
+        handles[i] = triggerEngine.schedule(crons[i], fireTime -> { });
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.springrest.common.excel;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * 워크북 단위로 공유하는 데이터 셀 스타일
+ *
+ * @param dateTime 일시 스타일 (yyyy-MM-dd HH:mm:ss)
+ * @param date     일자 스타일 (yyyy-MM-dd)
+ */
+public record ExcelCellStyles(CellStyle dateTime, CellStyle date) {
+
+    public static ExcelCellStyles create(Workbook workbook) {
+        CreationHelper createHelper = workbook.getCreationHelper();
+
+        CellStyle dateTimeStyle = workbook.createCellStyle();
+        dateTimeStyle.setDataFormat(createHelper.createDataFormat().getFormat("yyyy-MM-dd HH:mm:ss"));
+
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(createHelper.createDataFormat().getFormat("yyyy-MM-dd"));
+
+        return new ExcelCellStyles(dateTimeStyle, dateStyle);
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.springrest.common.excel;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * {@link ExcelColumn} 기반 클래스별 엑셀 코덱
+ * 클래스당 한 번만 어노테이션을 스캔하고 MethodHandle 접근자와 타입별 셀 writer/reader를 컴파일하여
+ * {@link ClassValue}에 캐시한다. 셀 단위 처리에서 리플렉션(Field.get/set)과 primitive boxing을 하지 않는다.
+ */
+public final class ExcelCodec<T> {
+
+    private static final ClassValue<ExcelCodec<?>> CODECS = new ClassValue<>() {
+        @Override
+        protected ExcelCodec<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final List<Column> columns;
+
+    private ExcelCodec(Class<T> type, MethodHandle constructor, List<Column> columns) {
+        this.type = type;
+        this.constructor = constructor;
+        this.columns = columns;
+    }
+
+    /**
+     * 클래스에 대한 코덱 조회 (최초 호출 시 컴파일 후 캐시)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ExcelCodec<T> of(Class<T> clazz) {
+        return (ExcelCodec<T>) CODECS.get(clazz);
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * 기본 생성자로 새 인스턴스 생성
+     */
+    public T newInstance() {
+        try {
+            return type.cast(constructor.invokeExact());
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to instantiate " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 데이터 한 건을 행의 셀로 기록
+     */
+    public void writeRow(T item, Row row, ExcelCellStyles styles) {
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            try {
+                column.writer.write(item, row.createCell(i), styles);
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to access field value: " + column.fieldName, e);
+            }
+        }
+    }
+
+    /**
+     * 셀 문자열 값을 인스턴스의 해당 컬럼 필드에 설정
+     * 지원하지 않는 타입의 컬럼은 무시한다.
+     */
+    public void readCell(T instance, int columnIndex, String value) {
+        Column column = columns.get(columnIndex);
+        if (column.reader == null) {
+            return;
+        }
+        try {
+            column.reader.read(instance, value);
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(
+                    "Invalid value for " + column.headerName + ": " + value, e);
+        }
+    }
+
+    // --- Compile ---
+
+    private static <T> ExcelCodec<T> compile(Class<T> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(ExcelColumn.class)) {
+                fields.add(field);
+            }
+        }
+        // Sort by order
+        fields.sort(Comparator.comparingInt(f -> f.getAnnotation(ExcelColumn.class).order()));
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+
+            MethodHandle constructor = null;
+            try {
+                constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException e) {
+                // 쓰기 전용(다운로드) DTO는 기본 생성자가 없어도 허용
+                constructor = MethodHandles.throwException(Object.class, NoSuchMethodException.class)
+                        .bindTo(e);
+            }
+
+            List<Column> columns = new ArrayList<>(fields.size());
+            for (Field field : fields) {
+                ExcelColumn annotation = field.getAnnotation(ExcelColumn.class);
+                MethodHandle getter = lookup.unreflectGetter(field);
+                // final 필드(record 등)는 읽기 전용 컬럼으로 처리
+                CellReader reader = Modifier.isFinal(field.getModifiers()) ? null
+                        : readerFor(field.getType(), lookup.unreflectSetter(field));
+                columns.add(new Column(field.getName(), annotation.headerName(), annotation.width(),
+                        field.getType(), writerFor(field.getType(), getter), reader));
+            }
+            return new ExcelCodec<>(clazz, constructor, List.copyOf(columns));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to compile excel codec for " + clazz.getName(), e);
+        }
+    }
+
+    private static CellWriter writerFor(Class<?> type, MethodHandle getter) {
+        // primitive 필드는 boxing 없이 바로 읽는다
+        if (type == int.class) {
+            MethodHandle mh = getter.asType(MethodType.methodType(int.class, Object.class));
+            return (bean, cell, styles) -> cell.setCellValue((int) mh.invokeExact(bean));
+        }
+        if (type == long.class) {
+            MethodHandle mh = getter.asType(MethodType.methodType(long.class, Object.class));
+            return (bean, cell, styles) -> cell.setCellValue((long) mh.invokeExact(bean));
+        }
+        if (type == double.class) {
+            MethodHandle mh = getter.asType(MethodType.methodType(double.class, Object.class));
+            return (bean, cell, styles) -> cell.setCellValue((double) mh.invokeExact(bean));
+        }
+        if (type == boolean.class) {
+            MethodHandle mh = getter.asType(MethodType.methodType(boolean.class, Object.class));
+            return (bean, cell, styles) -> cell.setCellValue((boolean) mh.invokeExact(bean));
+        }
+
+        MethodHandle mh = getter.asType(GETTER_TYPE);
+        if (type == String.class) {
+            return (bean, cell, styles) -> {
+                Object value = mh.invokeExact(bean);
+                if (value == null) {
+                    cell.setBlank();
+                } else {
+                    cell.setCellValue((String) value);
+                }
+            };
+        }
+        if (Number.class.isAssignableFrom(type)) {
+            return (bean, cell, styles) -> {
+                Object value = mh.invokeExact(bean);
+                if (value == null) {
+                    cell.setBlank();
+                } else {
+                    cell.setCellValue(((Number) value).doubleValue());
+                }
+            };
+        }
+        if (type == Boolean.class) {
+            return (bean, cell, styles) -> {
+                Object value = mh.invokeExact(bean);
+                if (value == null) {
+                    cell.setBlank();
+                } else {
+                    cell.setCellValue((Boolean) value);
+                }
+            };
+        }
+        if (type == LocalDateTime.class) {
+            return (bean, cell, styles) -> {
+                Object value = mh.invokeExact(bean);
+                if (value == null) {
+                    cell.setBlank();
+                } else {
+                    cell.setCellValue((LocalDateTime) value);
+                    cell.setCellStyle(styles.dateTime());
+                }
+            };
+        }
+        if (type == LocalDate.class) {
+            return (bean, cell, styles) -> {
+                Object value = mh.invokeExact(bean);
+                if (value == null) {
+                    cell.setBlank();
+                } else {
+                    cell.setCellValue((LocalDate) value);
+                    cell.setCellStyle(styles.date());
+                }
+            };
+        }
+        if (type == Date.class) {
+            return (bean, cell, styles) -> {
+                Object value = mh.invokeExact(bean);
+                if (value == null) {
+                    cell.setBlank();
+                } else {
+                    cell.setCellValue((Date) value);
+                    cell.setCellStyle(styles.dateTime());
+                }
+            };
+        }
+        if (type.isEnum()) {
+            return (bean, cell, styles) -> {
+                Object value = mh.invokeExact(bean);
+                if (value == null) {
+                    cell.setBlank();
+                } else {
+                    cell.setCellValue(((Enum<?>) value).name());
+                }
+            };
+        }
+        return (bean, cell, styles) -> {
+            Object value = mh.invokeExact(bean);
+            if (value == null) {
+                cell.setBlank();
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        };
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static CellReader readerFor(Class<?> type, MethodHandle setter) {
+        if (type == int.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            return (bean, value) -> {
+                mh.invokeExact(bean, toNumber(value).intValue());
+            };
+        }
+        if (type == long.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            return (bean, value) -> {
+                mh.invokeExact(bean, toNumber(value).longValue());
+            };
+        }
+        if (type == double.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            return (bean, value) -> {
+                mh.invokeExact(bean, toNumber(value).doubleValue());
+            };
+        }
+        if (type == boolean.class) {
+            MethodHandle mh = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            return (bean, value) -> {
+                mh.invokeExact(bean, Boolean.parseBoolean(value.trim()));
+            };
+        }
+
+        MethodHandle mh = setter.asType(SETTER_TYPE);
+        if (type == String.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) value);
+            };
+        }
+        if (type == Integer.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) toNumber(value).intValue());
+            };
+        }
+        if (type == Long.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) toNumber(value).longValue());
+            };
+        }
+        if (type == Double.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) toNumber(value).doubleValue());
+            };
+        }
+        if (type == BigDecimal.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) toNumber(value));
+            };
+        }
+        if (type == Boolean.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) Boolean.valueOf(value.trim()));
+            };
+        }
+        if (type == LocalDateTime.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) toLocalDateTime(value));
+            };
+        }
+        if (type == LocalDate.class) {
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) toLocalDateTime(value).toLocalDate());
+            };
+        }
+        if (type.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+            return (bean, value) -> {
+                mh.invokeExact(bean, (Object) Enum.valueOf(enumType, value.trim()));
+            };
+        }
+        // Add more type conversions as needed
+        return null;
+    }
+
+    private static BigDecimal toNumber(String value) {
+        // 서식이 적용된 숫자(천 단위 구분자)도 허용
+        return new BigDecimal(value.trim().replace(",", ""));
+    }
+
+    private static LocalDateTime toLocalDateTime(String value) {
+        String trimmed = value.trim();
+        try {
+            if (trimmed.length() <= 10) {
+                return LocalDate.parse(trimmed, DATE_FORMAT).atStartOfDay();
+            }
+            return LocalDateTime.parse(trimmed, DATE_TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(trimmed);
+            } catch (DateTimeParseException ignore) {
+                // 서식 없는 날짜 셀은 엑셀 일련번호로 전달됨
+                return DateUtil.getLocalDateTime(toNumber(trimmed).doubleValue());
+            }
+        }
+    }
+
+    // --- Column ---
+
+    @FunctionalInterface
+    interface CellWriter {
+        void write(Object bean, Cell cell, ExcelCellStyles styles) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface CellReader {
+        void read(Object bean, String value) throws Throwable;
+    }
+
+    /**
+     * 컴파일된 컬럼 정보
+     */
+    public static final class Column {
+        private final String fieldName;
+        private final String headerName;
+        private final int width;
+        private final Class<?> fieldType;
+        private final CellWriter writer;
+        private final CellReader reader;
+
+        private Column(String fieldName, String headerName, int width, Class<?> fieldType, CellWriter writer,
+                CellReader reader) {
+            this.fieldName = fieldName;
+            this.headerName = headerName;
+            this.width = width;
+            this.fieldType = fieldType;
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public String getHeaderName() {
+            return headerName;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public Class<?> getFieldType() {
+            return fieldType;
+        }
+    }
+}
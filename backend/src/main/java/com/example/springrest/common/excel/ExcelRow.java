@@ -0,0 +1,19 @@
+package com.example.springrest.common.excel;
+
+/**
+ * 스트리밍 엑셀 읽기 결과 행
+ *
+ * @param rowNum 엑셀 행 번호 (0부터 시작, 헤더 = 0)
+ * @param data   변환된 행 데이터 (변환 실패 셀은 비어 있음)
+ * @param error  셀 변환 오류 메시지 (정상 행이면 null)
+ */
+public record ExcelRow<T>(int rowNum, T data, String error) {
+
+    public ExcelRow(int rowNum, T data) {
+        this(rowNum, data, null);
+    }
+
+    public boolean hasError() {
+        return error != null;
+    }
+}
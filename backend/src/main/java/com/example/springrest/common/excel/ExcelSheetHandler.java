@@ -0,0 +1,107 @@
+package com.example.springrest.common.excel;
+
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * XSSF 이벤트(SAX) 모델 시트 핸들러
+ * 행 단위로 셀 값을 받아 DTO로 변환한 뒤 batchSize 단위로 전달한다. 셀 변환 오류는 해당 행의 error 로 전달한다.
+ * 한 번에 최대 batchSize 행만 메모리에 유지한다.
+ */
+class ExcelSheetHandler<T> implements SheetContentsHandler {
+
+    private final ExcelCodec<T> codec;
+    private final int batchSize;
+    private final Consumer<List<ExcelRow<T>>> batchHandler;
+
+    private final String[] rowValues;
+    private List<ExcelRow<T>> batch;
+    private int currentCol;
+    private int rowCount;
+
+    ExcelSheetHandler(ExcelCodec<T> codec, int batchSize, Consumer<List<ExcelRow<T>>> batchHandler) {
+        this.codec = codec;
+        this.batchSize = batchSize;
+        this.batchHandler = batchHandler;
+        this.rowValues = new String[codec.getColumns().size()];
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+        Arrays.fill(rowValues, null);
+        currentCol = -1;
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+        // r 속성이 없는 셀은 직전 셀의 다음 컬럼으로 간주
+        currentCol = cellReference != null ? new CellReference(cellReference).getCol() : currentCol + 1;
+        if (currentCol < rowValues.length) {
+            rowValues[currentCol] = formattedValue;
+        }
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+        // Skip header row
+        if (rowNum == 0) {
+            return;
+        }
+
+        boolean isEmptyRow = true;
+        for (String value : rowValues) {
+            if (value != null && !value.isEmpty()) {
+                isEmptyRow = false;
+                break;
+            }
+        }
+        if (isEmptyRow) {
+            return;
+        }
+
+        // 변환할 수 없는 셀은 업로드 전체를 중단하지 않고 행 오류로 전달 (처리 여부는 batchHandler 가 결정)
+        T instance = codec.newInstance();
+        StringBuilder errors = null;
+        for (int i = 0; i < rowValues.length; i++) {
+            String value = rowValues[i];
+            if (value != null && !value.isEmpty()) {
+                try {
+                    codec.readCell(instance, i, value);
+                } catch (IllegalArgumentException e) {
+                    errors = errors == null ? new StringBuilder() : errors.append("; ");
+                    errors.append(e.getMessage());
+                }
+            }
+        }
+        batch.add(new ExcelRow<>(rowNum, instance, errors != null ? errors.toString() : null));
+        rowCount++;
+
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void endSheet() {
+        flush();
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchHandler.accept(batch);
+        batch = new ArrayList<>(batchSize);
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.springrest.common.excel;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 행 단위로 데이터를 기록하는 스트리밍 엑셀 writer (SXSSF)
+ * 메모리에는 최근 windowSize 행만 유지하고 나머지는 임시 파일로 flush 한다.
+ * 사용 후 반드시 {@link #close()} 하여 임시 파일을 정리해야 한다.
+ *
+ * width 가 지정되지 않은 컬럼은 폰트 측정(autoSizeColumn) 대신 앞쪽 sampleRows 행의 문자열 길이로 너비를 추정한다.
+ * (한글 등 전각 문자는 2칸으로 계산, 샘플이 없으면 헤더 길이 기준)
+ */
+public class ExcelSheetWriter<T> implements AutoCloseable {
+
+    private static final int DEFAULT_WINDOW_SIZE = 100;
+    public static final int DEFAULT_SAMPLE_ROWS = 100;
+
+    private static final int WIDTH_PADDING = 2; // 좌우 여백 (글자 수)
+    private static final int MIN_WIDTH = 8;
+    private static final int MAX_WIDTH = 100; // 엑셀 최대 너비는 255 글자
+    private static final int DATE_TIME_WIDTH = "yyyy-MM-dd HH:mm:ss".length();
+    private static final int DATE_WIDTH = "yyyy-MM-dd".length();
+
+    private final ExcelCodec<T> codec;
+    private final SXSSFWorkbook workbook;
+    private final Sheet sheet;
+    private final ExcelCellStyles styles;
+    private final int sampleRows;
+    private final int[] sampledWidths; // 자동 너비 컬럼의 샘플 최대 표시 너비 (글자 수), 고정 너비 컬럼은 -1
+    private final boolean autoSize;
+    private int rowIndex;
+
+    private ExcelSheetWriter(Class<T> clazz, int windowSize, int sampleRows) {
+        this.codec = ExcelCodec.of(clazz);
+        this.workbook = new SXSSFWorkbook(windowSize);
+        this.sheet = workbook.createSheet("Sheet1");
+        this.styles = ExcelCellStyles.create(workbook);
+        this.sampleRows = Math.max(sampleRows, 0);
+
+        List<ExcelCodec.Column> columns = codec.getColumns();
+        this.sampledWidths = new int[columns.size()];
+        boolean hasAutoColumn = false;
+        for (int i = 0; i < columns.size(); i++) {
+            boolean auto = columns.get(i).getWidth() <= 0;
+            sampledWidths[i] = auto ? 0 : -1;
+            hasAutoColumn |= auto;
+        }
+        this.autoSize = hasAutoColumn;
+        writeHeader();
+    }
+
+    public static <T> ExcelSheetWriter<T> open(Class<T> clazz) {
+        return open(clazz, DEFAULT_SAMPLE_ROWS);
+    }
+
+    /**
+     * @param sampleRows 자동 너비 추정에 사용할 데이터 행 수 (0이면 헤더 길이만 사용)
+     */
+    public static <T> ExcelSheetWriter<T> open(Class<T> clazz, int sampleRows) {
+        return new ExcelSheetWriter<>(clazz, DEFAULT_WINDOW_SIZE, sampleRows);
+    }
+
+    /**
+     * 데이터 한 건을 다음 행에 기록
+     */
+    public void write(T item) {
+        Row row = sheet.createRow(rowIndex++);
+        codec.writeRow(item, row, styles);
+        if (autoSize && rowIndex - 1 <= sampleRows) {
+            sample(row);
+        }
+    }
+
+    /**
+     * 기록된 데이터 행 수 (헤더 제외)
+     */
+    public int getRowCount() {
+        return rowIndex - 1;
+    }
+
+    /**
+     * 워크북을 출력 스트림으로 기록
+     */
+    public void finish(OutputStream out) throws IOException {
+        applyAutoWidths();
+        workbook.write(out);
+    }
+
+    Workbook getWorkbook() {
+        applyAutoWidths();
+        return workbook;
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void writeHeader() {
+        List<ExcelCodec.Column> columns = codec.getColumns();
+        CellStyle headerStyle = createHeaderStyle(workbook);
+
+        Row headerRow = sheet.createRow(rowIndex++);
+        for (int i = 0; i < columns.size(); i++) {
+            ExcelCodec.Column column = columns.get(i);
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(column.getHeaderName());
+            cell.setCellStyle(headerStyle);
+
+            if (column.getWidth() > 0) {
+                sheet.setColumnWidth(i, column.getWidth() * 256);
+            }
+        }
+    }
+
+    /**
+     * 샘플 행의 셀 표시 너비 누적
+     */
+    private void sample(Row row) {
+        for (int i = 0; i < sampledWidths.length; i++) {
+            if (sampledWidths[i] < 0) {
+                continue;
+            }
+            Cell cell = row.getCell(i);
+            if (cell != null) {
+                sampledWidths[i] = Math.max(sampledWidths[i], cellWidth(cell));
+            }
+        }
+    }
+
+    /**
+     * 자동 너비 컬럼에 헤더/샘플 기준 추정 너비 적용 (finish 전 1회)
+     */
+    private void applyAutoWidths() {
+        List<ExcelCodec.Column> columns = codec.getColumns();
+        for (int i = 0; i < sampledWidths.length; i++) {
+            if (sampledWidths[i] < 0) {
+                continue;
+            }
+            int chars = Math.max(sampledWidths[i], displayWidth(columns.get(i).getHeaderName()));
+            int width = Math.min(Math.max(chars + WIDTH_PADDING, MIN_WIDTH), MAX_WIDTH);
+            sheet.setColumnWidth(i, width * 256);
+        }
+    }
+
+    private int cellWidth(Cell cell) {
+        return switch (cell.getCellType()) {
+            case STRING -> displayWidth(cell.getStringCellValue());
+            case BOOLEAN -> cell.getBooleanCellValue() ? 4 : 5;
+            case NUMERIC -> {
+                CellStyle style = cell.getCellStyle();
+                if (style == styles.dateTime()) {
+                    yield DATE_TIME_WIDTH;
+                }
+                if (style == styles.date()) {
+                    yield DATE_WIDTH;
+                }
+                double value = cell.getNumericCellValue();
+                yield value == Math.rint(value) && Math.abs(value) < 1e15
+                        ? Long.toString((long) value).length()
+                        : Double.toString(value).length();
+            }
+            default -> 0;
+        };
+    }
+
+    /**
+     * 문자열 표시 너비 (전각 문자 2칸, 여러 줄이면 가장 긴 줄)
+     */
+    static int displayWidth(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int max = 0;
+        int width = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n') {
+                max = Math.max(max, width);
+                width = 0;
+            } else if (!Character.isLowSurrogate(c)) {
+                width += isWide(c) ? 2 : 1;
+            }
+        }
+        return Math.max(max, width);
+    }
+
+    private static boolean isWide(char c) {
+        return (c >= 0x1100 && c <= 0x115F) // 한글 자모
+                || (c >= 0x2E80 && c <= 0xA4CF) // CJK 부호, 한자, 가나
+                || (c >= 0xAC00 && c <= 0xD7A3) // 한글 음절
+                || (c >= 0xF900 && c <= 0xFAFF) // CJK 호환 한자
+                || (c >= 0xFE30 && c <= 0xFE4F)
+                || (c >= 0xFF00 && c <= 0xFF60) // 전각 영숫자
+                || (c >= 0xFFE0 && c <= 0xFFE6)
+                || Character.isHighSurrogate(c); // 이모지 등 보조 평면
+    }
+
+    private static CellStyle createHeaderStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        return style;
+    }
+}
@@ -1,211 +1,125 @@
 package com.example.springrest.common.excel;
 
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
 import org.springframework.web.multipart.MultipartFile;
-import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
-import java.time.LocalDateTime;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * 엑셀 처리 유틸리티
  */
 public class ExcelUtils {
 
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
     /**
      * 리스트 데이터를 엑셀 워크북으로 변환
+     * 대용량 데이터는 {@link ExcelSheetWriter}로 행 단위 기록 권장
      */
     public static <T> Workbook toExcel(List<T> data, Class<T> clazz) {
         // SXSSFWorkbook for memory efficiency with large datasets
-        SXSSFWorkbook workbook = new SXSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Sheet1");
-
-        // Get annotated fields securely
-        List<Field> fields = getExcelFields(clazz);
-
-        // Header Style
-        CellStyle headerStyle = createHeaderStyle(workbook);
-
-        // Date Style
-        CellStyle dateStyle = workbook.createCellStyle();
-        CreationHelper createHelper = workbook.getCreationHelper();
-        dateStyle.setDataFormat(createHelper.createDataFormat().getFormat("yyyy-MM-dd HH:mm:ss"));
-
-        // Create Header Row
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < fields.size(); i++) {
-            Field field = fields.get(i);
-            ExcelColumn annotation = field.getAnnotation(ExcelColumn.class);
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(annotation.headerName());
-            cell.setCellStyle(headerStyle);
-
-            // ...
-
-            // Set width
-            if (annotation.width() > 0) {
-                sheet.setColumnWidth(i, annotation.width() * 256);
-            } else {
-                if (sheet instanceof SXSSFSheet) {
-                    ((SXSSFSheet) sheet).trackAllColumnsForAutoSizing();
-                }
-                sheet.autoSizeColumn(i);
-            }
-        }
-
-        // Create Data Rows
-        int rowIndex = 1;
+        ExcelSheetWriter<T> writer = ExcelSheetWriter.open(clazz);
         for (T item : data) {
-            Row row = sheet.createRow(rowIndex++);
-            for (int i = 0; i < fields.size(); i++) {
-                Field field = fields.get(i);
-                field.setAccessible(true);
-                Cell cell = row.createCell(i);
-
-                try {
-                    Object value = field.get(item);
-                    setCellValue(cell, value, dateStyle);
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException("Failed to access field value: " + field.getName(), e);
-                }
-            }
+            writer.write(item);
         }
-
-        return workbook;
+        return writer.getWorkbook();
     }
 
     /**
      * 엑셀 파일을 리스트로 변환
+     * 전체 행을 메모리에 적재하므로 대용량 파일은 {@link #readExcel(MultipartFile, Class, int, Consumer)} 사용
+     * 변환할 수 없는 셀이 있으면 IllegalArgumentException (행별 결과가 필요하면 readExcel 의 ExcelRow.error 사용)
      */
     public static <T> List<T> fromExcel(MultipartFile file, Class<T> clazz) throws IOException {
         List<T> list = new ArrayList<>();
-        
-        try (InputStream is = file.getInputStream();
-             Workbook workbook = new XSSFWorkbook(is)) {
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            List<Field> fields = getExcelFields(clazz);
-
-            // Skip header row
-            Iterator<Row> rowIterator = sheet.iterator();
-            if (rowIterator.hasNext()) {
-                rowIterator.next();
-            }
-
-            while (rowIterator.hasNext()) {
-                Row row = rowIterator.next();
-                try {
-                    T instance = clazz.getDeclaredConstructor().newInstance();
-                    boolean isEmptyRow = true;
-
-                    for (int i = 0; i < fields.size(); i++) {
-                        Field field = fields.get(i);
-                        field.setAccessible(true);
-                        Cell cell = row.getCell(i);
-
-                        if (cell != null && cell.getCellType() != CellType.BLANK) {
-                            isEmptyRow = false;
-                            setFieldValue(instance, field, cell);
-                        }
-                    }
-
-                    if (!isEmptyRow) {
-                        list.add(instance);
-                    }
-
-                } catch (Exception e) {
-                    throw new RuntimeException("Error parsing excel row " + row.getRowNum(), e);
-                }
+        readExcel(file, clazz, DEFAULT_BATCH_SIZE, batch -> batch.forEach(row -> {
+            if (row.hasError()) {
+                throw new IllegalArgumentException("Error parsing excel row " + row.rowNum() + ": " + row.error());
             }
-        }
-
+            list.add(row.data());
+        }));
         return list;
     }
 
-    private static List<Field> getExcelFields(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(ExcelColumn.class)) {
-                fields.add(field);
-            }
+    /**
+     * 업로드된 엑셀 파일을 스트리밍(SAX) 방식으로 읽어 batchSize 단위로 전달
+     * 업로드 파일을 임시 파일로 옮긴 뒤 읽으므로 힙 사용량은 파일 크기와 무관하게 batchSize에 비례한다.
+     * 변환할 수 없는 셀이 있는 행도 ExcelRow.error 와 함께 전달한다.
+     *
+     * @return 전달된 전체 행 수 (헤더, 빈 행 제외)
+     */
+    public static <T> int readExcel(MultipartFile file, Class<T> clazz, int batchSize,
+            Consumer<List<ExcelRow<T>>> batchHandler) throws IOException {
+        Path tempFile = Files.createTempFile("excel-upload-", ".xlsx");
+        try {
+            file.transferTo(tempFile);
+            return readExcel(tempFile.toFile(), clazz, batchSize, batchHandler);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
-        // Sort by order
-        fields.sort(Comparator.comparingInt(f -> f.getAnnotation(ExcelColumn.class).order()));
-        return fields;
-    }
-
-    private static CellStyle createHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        style.setFont(font);
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        return style;
     }
 
-    private static void setCellValue(Cell cell, Object value, CellStyle dateStyle) {
-        if (value == null) {
-            cell.setBlank();
-            return;
+    /**
+     * 엑셀 파일의 첫 번째 시트를 스트리밍(SAX) 방식으로 읽어 batchSize 단위로 전달
+     * 공유 문자열 테이블과 시트 XML을 이벤트 모델로 처리하며 DOM(XSSFWorkbook)을 만들지 않는다.
+     *
+     * @return 전달된 전체 행 수 (헤더, 빈 행 제외)
+     */
+    public static <T> int readExcel(File file, Class<T> clazz, int batchSize,
+            Consumer<List<ExcelRow<T>>> batchHandler) throws IOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
         }
 
-        if (value instanceof Number) {
-            cell.setCellValue(((Number) value).doubleValue());
-        } else if (value instanceof Boolean) {
-            cell.setCellValue((Boolean) value);
-        } else if (value instanceof LocalDateTime) {
-            cell.setCellValue((LocalDateTime) value);
-            cell.setCellStyle(dateStyle);
-        } else if (value instanceof Date) {
-            cell.setCellValue((Date) value);
-            cell.setCellStyle(dateStyle);
-        } else {
-            cell.setCellValue(value.toString());
-        }
-    }
+        ExcelSheetHandler<T> handler = new ExcelSheetHandler<>(ExcelCodec.of(clazz), batchSize,
+                batchHandler);
 
-    private static void setFieldValue(Object instance, Field field, Cell cell) throws IllegalAccessException {
-        Class<?> type = field.getType();
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
 
-        if (type == String.class) {
-            field.set(instance, getCellValueAsString(cell));
-        } else if (type == int.class || type == Integer.class) {
-            field.set(instance, (int) cell.getNumericCellValue());
-        } else if (type == long.class || type == Long.class) {
-            field.set(instance, (long) cell.getNumericCellValue());
-        } else if (type == double.class || type == Double.class) {
-            field.set(instance, cell.getNumericCellValue());
-        } else if (type == boolean.class || type == Boolean.class) {
-            field.set(instance, cell.getBooleanCellValue());
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return 0;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(
+                        new XSSFSheetXMLHandler(styles, null, strings, handler, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read excel file: " + file.getName(), e);
         }
-        // Add more type conversions as needed
+
+        return handler.getRowCount();
     }
 
-    private static String getCellValueAsString(Cell cell) {
-        if (cell == null)
-            return "";
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                return String.valueOf((long) cell.getNumericCellValue()); // Integer로 가정
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return "";
-        }
+    /**
+     * 엑셀 파일을 스트리밍 방식으로 읽어 행 단위로 전달
+     */
+    public static <T> int readExcel(MultipartFile file, Class<T> clazz, Consumer<ExcelRow<T>> rowHandler)
+            throws IOException {
+        return readExcel(file, clazz, DEFAULT_BATCH_SIZE, batch -> batch.forEach(rowHandler));
     }
 }
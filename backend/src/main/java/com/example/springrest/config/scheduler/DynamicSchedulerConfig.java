@@ -2,25 +2,59 @@ package com.example.springrest.config.scheduler;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 /**
  * 전역 동적 스케줄링 설정 클래스
+ * 동적 스케줄 트리거 (+ 실행 제한 시간) 와 {@code @Scheduled} 메서드는 서로 다른 스케줄러에서 실행한다.
  */
 @Configuration
 @EnableScheduling
-public class DynamicSchedulerConfig {
+public class DynamicSchedulerConfig implements SchedulingConfigurer {
 
+    private final SchedulerProperties schedulerProperties;
+
+    public DynamicSchedulerConfig(SchedulerProperties schedulerProperties) {
+        this.schedulerProperties = schedulerProperties;
+    }
+
+    /**
+     * 트리거 발생 전용 스케줄러
+     * 동적 스케줄 작업 본문은 ScheduleJobExecutor 로 넘기므로 적은 스레드로 충분하다.
+     */
     @Bean
+    @Primary
     public ThreadPoolTaskScheduler threadPoolTaskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        // 동시 실행 가능한 스케줄러 쓰레드 수 구성 (필요시 프로퍼티로 이관 가능)
-        scheduler.setPoolSize(10);
+        scheduler.setPoolSize(schedulerProperties.getTriggerPoolSize());
         scheduler.setThreadNamePrefix("dynamic-scheduler-");
+        // 스케줄 수정/삭제로 취소된 트리거를 만료 시각까지 대기열에 남기지 않음
+        scheduler.setRemoveOnCancelPolicy(true);
         // Spring Context가 종료될 때 대기 중인 작업을 정상 종료하도록 설정
         scheduler.setWaitForTasksToCompleteOnShutdown(true);
         scheduler.setAwaitTerminationSeconds(20);
         return scheduler;
     }
+
+    /**
+     * {@code @Scheduled} 메서드 전용 스케줄러 (lease heartbeat/인계, 내보내기 정리 등)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler scheduledMethodTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(schedulerProperties.getScheduledPoolSize());
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(20);
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(scheduledMethodTaskScheduler());
+    }
 }
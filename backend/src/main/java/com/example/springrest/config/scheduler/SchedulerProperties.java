@@ -0,0 +1,222 @@
+package com.example.springrest.config.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 동적 스케줄러 Properties
+ * application.yml의 app.scheduler.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.scheduler")
+public class SchedulerProperties {
+
+    /**
+     * 트리거 전용 스케줄러 스레드 수 (작업 본문은 {@link Executor} 에서 실행)
+     */
+    private int triggerPoolSize = 2;
+
+    /**
+     * {@code @Scheduled} 메서드 (lease heartbeat, 내보내기 파일 정리 등) 전용 스케줄러 스레드 수
+     * 트리거 스케줄러와 분리하여 느린 DB 호출이 cron 발생/실행 제한 시간 처리를 늦추지 않게 한다.
+     */
+    private int scheduledPoolSize = 2;
+
+    /**
+     * 트리거 엔진 (SCHEDULER: ThreadPoolTaskScheduler, WHEEL: 계층형 타이밍 휠)
+     */
+    private TriggerEngine engine = TriggerEngine.SCHEDULER;
+
+    private Wheel wheel = new Wheel();
+
+    private Executor executor = new Executor();
+
+    private LogWriter logWriter = new LogWriter();
+
+    private LogRetention logRetention = new LogRetention();
+
+    private Metrics metrics = new Metrics();
+
+    private Batch batch = new Batch();
+
+    private Notify notify = new Notify();
+
+    private Cluster cluster = new Cluster();
+
+    public enum TriggerEngine {
+        SCHEDULER, WHEEL
+    }
+
+    public enum ExecutorType {
+        VIRTUAL, BOUNDED
+    }
+
+    @Data
+    public static class Wheel {
+        /**
+         * 휠 틱 간격 (트리거 정밀도, 실제 실행은 예정 시각보다 최대 1틱 늦음)
+         */
+        private Duration tick = Duration.ofMillis(100);
+    }
+
+    @Data
+    public static class Executor {
+        /**
+         * 작업 실행기 종류
+         * VIRTUAL: 작업마다 가상 스레드, BOUNDED: 고정 크기 스레드 풀 + 대기열
+         */
+        private ExecutorType type = ExecutorType.VIRTUAL;
+
+        /**
+         * BOUNDED 스레드 수
+         */
+        private int maxThreads = 10;
+
+        /**
+         * BOUNDED 대기열 크기 (초과 시 실행 거절)
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * 빈별 동시 실행 기본 제한 (0 이하이면 제한 없음)
+         */
+        private int perBeanLimit = 0;
+
+        /**
+         * 빈별 동시 실행 제한 (빈 이름 -> 최대 동시 실행 수)
+         */
+        private Map<String, Integer> perBeanLimits = new HashMap<>();
+
+        /**
+         * 동시 실행 제한 초과 시 대기 시간 (초과하면 이번 실행 건너뜀)
+         */
+        private Duration permitWait = Duration.ZERO;
+
+        /**
+         * 종료 시 실행 중 작업 대기 시간
+         */
+        private Duration shutdownWait = Duration.ofSeconds(20);
+    }
+
+    @Data
+    public static class LogWriter {
+        /**
+         * 실행 로그 버퍼 크기 (가득 차면 offerTimeout 동안 대기 후 버림)
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * 한 번에 기록하는 최대 로그 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * 버퍼 flush 주기 (배치가 차지 않아도 이 간격으로 기록)
+         */
+        private Duration flushInterval = Duration.ofMillis(500);
+
+        /**
+         * 버퍼가 가득 찼을 때 작업 스레드의 대기 시간
+         */
+        private Duration offerTimeout = Duration.ofMillis(100);
+    }
+
+    @Data
+    public static class LogRetention {
+        /**
+         * 스케줄 로그 보관 개월 수 (이전 월 파티션 삭제, 현재 월 포함)
+         */
+        private int months = 6;
+
+        /**
+         * 미리 생성할 다음 월 파티션 수
+         */
+        private int premakeMonths = 2;
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 실제 실행 시각이 cron 예정 시각보다 이 시간 이상 늦으면 누락(missed fire)으로 집계
+         */
+        private Duration missedFireThreshold = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Batch {
+        /**
+         * 청크 배치 기본 청크(커밋) 단위 건수
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 청크 내 항목 변환 기본 병렬도 (1 이면 순차)
+         */
+        private int parallelism = 1;
+    }
+
+    @Data
+    public static class Notify {
+        /**
+         * 스케줄 변경 NOTIFY 발행 및 LISTEN 전용 연결 사용 여부 (PostgreSQL 전용)
+         */
+        private boolean enabled = false;
+
+        /**
+         * NOTIFY 채널명
+         */
+        private String channel = "schedule_change";
+
+        /**
+         * LISTEN 연결이 끊겼을 때 재연결 대기 시간
+         */
+        private Duration reconnectBackoff = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Cluster {
+        /**
+         * 다중 노드 모드 (DB lease 로 실행 노드 1개 선출)
+         * 기본값: false (단일 인스턴스)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 노드 ID
+         * 기본값: pid@hostname
+         */
+        private String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+        /**
+         * lease 유효 시간 (heartbeat 가 끊긴 노드의 작업은 이후 다른 노드가 인계)
+         */
+        private Duration leaseTimeout = Duration.ofSeconds(60);
+
+        /**
+         * lease 연장 및 만료 lease 인계 주기
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+        /**
+         * DUP_STOP 시 다른 노드의 기존 실행 종료 대기 시간 (대기 중 작업 스레드는 점유하지 않음)
+         */
+        private Duration dupStopWait = Duration.ofSeconds(5);
+
+        /**
+         * 점유 시도 전 로컬 실행 중 작업 1개당 대기 시간 (한가한 노드가 먼저 점유하도록 분산)
+         */
+        private Duration claimBackoff = Duration.ofMillis(20);
+
+        /**
+         * 종료된 lease 보관 기간
+         */
+        private Duration leaseRetention = Duration.ofDays(7);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.springrest.domain.export.controller;
+
+import com.example.springrest.domain.export.model.dto.ExportJobResponse;
+import com.example.springrest.domain.export.model.entity.ExportJob;
+import com.example.springrest.domain.export.service.ExcelExportJobService;
+import com.example.springrest.global.model.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@Tag(name = "Export - Excel Export Job", description = "비동기 엑셀 내보내기 작업 API")
+@RestController
+@RequestMapping("/api/v1/mgmt/exports")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ExcelExportJobService excelExportJobService;
+
+    @Operation(summary = "내보내기 작업 상태 조회")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExportJobResponse>> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success(excelExportJobService.getJob(jobId)));
+    }
+
+    @Operation(summary = "내보내기 결과 파일 다운로드")
+    @GetMapping("/{jobId}/download")
+    public void download(@PathVariable String jobId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ExportJob job = excelExportJobService.getCompletedJob(jobId);
+        Path file = job.getFile();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            String fileName = URLEncoder.encode(job.getFileName(), StandardCharsets.UTF_8).replace("+", "%20");
+            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+            response.setContentLengthLong(size);
+
+            // Tomcat NIO connector: 응답 본문을 쓰지 않고 sendfile 로 커널에서 직접 전송
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, size);
+                return;
+            }
+
+            // sendfile 미지원 컨테이너: 사용자 영역 버퍼 없이 채널 간 전송
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.springrest.domain.export.model.dto;
+
+import com.example.springrest.domain.export.model.entity.ExportJob;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ExportJobResponse {
+    private String jobId;
+    private String fileName;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED, EXPIRED
+    private long rowsWritten;
+    private String message;
+    private LocalDateTime createTime;
+    private LocalDateTime completeTime;
+    private LocalDateTime expireTime;
+
+    public static ExportJobResponse fromEntity(ExportJob entity) {
+        return ExportJobResponse.builder()
+                .jobId(entity.getJobId())
+                .fileName(entity.getFileName())
+                .status(entity.getStatus().name())
+                .rowsWritten(entity.getRowsWritten().get())
+                .message(entity.getMessage())
+                .createTime(entity.getCreateTime())
+                .completeTime(entity.getCompleteTime())
+                .expireTime(entity.getExpireTime())
+                .build();
+    }
+}
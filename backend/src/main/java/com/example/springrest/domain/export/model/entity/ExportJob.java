@@ -0,0 +1,39 @@
+package com.example.springrest.domain.export.model.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 엑셀 내보내기 작업 (메모리 보관)
+ */
+@Getter
+@Setter
+public class ExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, EXPIRED
+    }
+
+    private final String jobId; // 작업 ID (UUID)
+    private final String fileName; // 다운로드 파일명
+    private final String requestedBy; // 요청자
+    private final LocalDateTime createTime; // 요청 시간
+    private final AtomicLong rowsWritten = new AtomicLong(); // 기록된 행 수 (진행률)
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Path file; // 결과 임시 파일
+    private volatile LocalDateTime completeTime; // 완료 시간
+    private volatile LocalDateTime expireTime; // 파일 만료 시간
+    private volatile String message; // 실패 메시지
+
+    public ExportJob(String jobId, String fileName, String requestedBy) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+        this.requestedBy = requestedBy;
+        this.createTime = LocalDateTime.now();
+    }
+}
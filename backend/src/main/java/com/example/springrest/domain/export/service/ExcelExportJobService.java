@@ -0,0 +1,189 @@
+package com.example.springrest.domain.export.service;
+
+import com.example.springrest.common.excel.ExcelSheetWriter;
+import com.example.springrest.domain.export.model.dto.ExportJobResponse;
+import com.example.springrest.domain.export.model.entity.ExportJob;
+import com.example.springrest.global.config.ExportProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 엑셀 내보내기 작업 서비스
+ * 요청 스레드는 작업 ID만 받아 즉시 반환하고, 제한된 worker 풀이 조회 결과를 임시 파일로 스트리밍 기록한다.
+ * 작업 상태는 노드 메모리에 보관하며 완료 파일은 TTL 경과 후 삭제된다.
+ */
+@Slf4j
+@Service
+public class ExcelExportJobService {
+
+    private final ExportProperties properties;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExcelExportJobService(ExportProperties properties, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.executor = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("excel-export-"), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 내보내기 작업 등록
+     *
+     * @param fileName 다운로드 파일명
+     * @param clazz    {@link com.example.springrest.common.excel.ExcelColumn} 이 선언된 DTO 클래스
+     * @param query    DTO 조회 (읽기 전용 트랜잭션 안에서 실행)
+     */
+    public <T> ExportJobResponse submit(String fileName, Class<T> clazz, ExportQuery<T> query) {
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), fileName, currentUsername());
+        jobs.put(job.getJobId(), job);
+
+        try {
+            executor.execute(() -> run(job, clazz, query));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            throw new IllegalStateException("내보내기 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        log.info("Export job submitted: jobId={}, fileName={}", job.getJobId(), fileName);
+        return ExportJobResponse.fromEntity(job);
+    }
+
+    /**
+     * 작업 상태 조회 (요청한 사용자만)
+     */
+    public ExportJobResponse getJob(String jobId) {
+        return ExportJobResponse.fromEntity(findOwnJob(jobId));
+    }
+
+    /**
+     * 다운로드 가능한 완료 작업 조회 (요청한 사용자만)
+     */
+    public ExportJob getCompletedJob(String jobId) {
+        ExportJob job = findOwnJob(jobId);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new IllegalArgumentException("다운로드할 수 없는 작업 상태입니다: " + job.getStatus());
+        }
+        return job;
+    }
+
+    /**
+     * 만료된 내보내기 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${app.export.cleanup-interval:60000}")
+    public void cleanupExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobs.values().removeIf(job -> {
+            if (job.getExpireTime() == null || job.getExpireTime().isAfter(now)) {
+                return false;
+            }
+            job.setStatus(ExportJob.Status.EXPIRED);
+            deleteQuietly(job.getFile());
+            log.debug("Export job expired: jobId={}", job.getJobId());
+            return true;
+        });
+    }
+
+    private <T> void run(ExportJob job, Class<T> clazz, ExportQuery<T> query) {
+        job.setStatus(ExportJob.Status.RUNNING);
+        Path file = null;
+        try {
+            Path dir = Paths.get(properties.getDir());
+            Files.createDirectories(dir);
+            file = Files.createTempFile(dir, "export-" + job.getJobId() + "-", ".xlsx");
+
+            try (ExcelSheetWriter<T> writer = ExcelSheetWriter.open(clazz, properties.getAutoSizeSampleRows());
+                    OutputStream out = Files.newOutputStream(file)) {
+                readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                    try {
+                        query.fetch(item -> {
+                            writer.write(item);
+                            job.getRowsWritten().incrementAndGet();
+                        });
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                writer.finish(out);
+            }
+
+            job.setFile(file);
+            job.setCompleteTime(LocalDateTime.now());
+            job.setExpireTime(job.getCompleteTime().plus(properties.getTtl()));
+            job.setStatus(ExportJob.Status.COMPLETED);
+            log.info("Export job completed: jobId={}, rows={}", job.getJobId(), job.getRowsWritten().get());
+        } catch (Exception e) {
+            log.error("Export job failed: jobId={}", job.getJobId(), e);
+            deleteQuietly(file);
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            job.setMessage(message.substring(0, Math.min(message.length(), 500)));
+            job.setCompleteTime(LocalDateTime.now());
+            // 실패 작업도 TTL 동안 상태 조회 가능
+            job.setExpireTime(job.getCompleteTime().plus(properties.getTtl()));
+            job.setStatus(ExportJob.Status.FAILED);
+        }
+    }
+
+    /**
+     * 현재 사용자가 등록한 작업 조회 (작업 ID 를 알아도 다른 사용자의 작업은 조회/다운로드 불가)
+     */
+    private ExportJob findOwnJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("내보내기 작업을 찾을 수 없습니다: " + jobId);
+        }
+        if (job.getRequestedBy() == null || !Objects.equals(job.getRequestedBy(), currentUsername())) {
+            throw new AccessDeniedException("내보내기 작업에 접근할 권한이 없습니다: " + jobId);
+        }
+        return job;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete export file: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.springrest.domain.export.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 내보내기 데이터 조회
+ * 조회 결과를 한 건씩 sink 로 전달한다. (MyBatis Cursor 등으로 스트리밍 권장)
+ * 읽기 전용 트랜잭션 안에서 호출된다.
+ */
+@FunctionalInterface
+public interface ExportQuery<T> {
+    void fetch(Consumer<T> sink) throws Exception;
+}
@@ -0,0 +1,32 @@
+package com.example.springrest.domain.order.controller;
+
+import com.example.springrest.domain.order.model.dto.OrderSnapshotQuery;
+import com.example.springrest.domain.order.model.dto.OrderSnapshotStats;
+import com.example.springrest.domain.order.service.OrderColumnarSnapshot;
+import com.example.springrest.global.model.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Order - Analytics", description = "주문 메모리 스냅샷 집계 API (app.order-snapshot.enabled=true)")
+@RestController
+@RequestMapping("/api/v1/mgmt/orders/analytics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.order-snapshot", name = "enabled", havingValue = "true")
+public class OrderAnalyticsController {
+
+    private final OrderColumnarSnapshot orderColumnarSnapshot;
+
+    @Operation(summary = "주문 상태 x 금액 구간 집계",
+            description = "메모리 스냅샷 기준 (최대 refresh-interval + lag 만큼 지연). buckets: 10000,50000 형식의 금액 구간 경계")
+    @GetMapping
+    public ResponseEntity<ApiResponse<OrderSnapshotStats>> aggregate(@ModelAttribute OrderSnapshotQuery query) {
+        return ResponseEntity.ok(ApiResponse.success(orderColumnarSnapshot.aggregate(query)));
+    }
+}
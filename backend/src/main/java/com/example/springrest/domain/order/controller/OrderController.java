@@ -2,7 +2,12 @@ package com.example.springrest.domain.order.controller;
 
 import com.example.springrest.domain.order.model.dto.OrderRequest;
 import com.example.springrest.domain.order.model.dto.OrderResponse;
+import com.example.springrest.domain.order.model.dto.OrderStatsResponse;
+import com.example.springrest.domain.order.model.dto.OrderIngestResult;
+import com.example.springrest.domain.order.service.OrderIngestService;
 import com.example.springrest.domain.order.service.OrderService;
+import com.example.springrest.domain.order.service.OrderStatsService;
+import com.example.springrest.global.model.dto.CursorPage;
 import com.example.springrest.global.model.dto.PageResponse;
 import com.example.springrest.global.model.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,8 +15,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
 
 @Tag(name = "Order - Order Management", description = "주문 관리 API")
 @Slf4j
@@ -21,6 +34,8 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderStatsService orderStatsService;
+    private final OrderIngestService orderIngestService;
 
     @Operation(summary = "주문 목록 조회")
     @GetMapping
@@ -34,6 +49,52 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(orderService.getAllOrders(page, size, custNm, startDate, endDate, sort)));
     }
 
+    @Operation(summary = "주문 목록 스트리밍 내보내기", description = "검색 조건의 주문 전체를 NDJSON (한 줄에 주문 하나) 으로 전송")
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamOrders(
+            @RequestParam(required = false) String custNm,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String sort) {
+        // 잘못된 정렬 조건은 전송 시작 전에 400 으로 응답
+        String sortClause = orderService.toSortClause(sort);
+        StreamingResponseBody body = out -> orderService.writeNdjson(out, custNm, startDate, endDate, sortClause);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    @Operation(summary = "주문 목록 커서 페이징 조회",
+            description = "주문 목록과 같이 사용 여부(use_yn)와 관계없이 조회. sort: orderAmt,desc,orderDate,desc 형식 (방향은 모두 같아야 함)")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<OrderResponse>>> getOrdersAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String custNm,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(
+                ApiResponse.success(orderService.getOrdersAfter(cursor, size, custNm, startDate, endDate, sort)));
+    }
+
+    @Operation(summary = "주문 일별 집계 조회")
+    @GetMapping("/stats/daily")
+    public ResponseEntity<ApiResponse<List<OrderStatsResponse>>> getDailyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String orderStatus) {
+        return ResponseEntity.ok(ApiResponse.success(orderStatsService.getDailyStats(startDate, endDate, orderStatus)));
+    }
+
+    @Operation(summary = "주문 상태별 집계 조회")
+    @GetMapping("/stats/status")
+    public ResponseEntity<ApiResponse<List<OrderStatsResponse>>> getStatusStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(ApiResponse.success(orderStatsService.getStatusStats(startDate, endDate)));
+    }
+
     @Operation(summary = "주문 상세 조회")
     @GetMapping("/{orderId}")
     public ResponseEntity<ApiResponse<OrderResponse>> getOrder(@PathVariable String orderId) {
@@ -48,6 +109,16 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
+    @Operation(summary = "주문 대량 적재", description = "text/csv (헤더 필수) 또는 application/x-ndjson 본문을 스트리밍으로 적재, 같은 주문 번호는 덮어씀")
+    @PostMapping(value = "/bulk", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<ApiResponse<OrderIngestResult>> ingestOrders(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+        OrderIngestService.Format format = "csv".equalsIgnoreCase(contentType.getSubtype())
+                ? OrderIngestService.Format.CSV
+                : OrderIngestService.Format.NDJSON;
+        return ResponseEntity.ok(ApiResponse.success(orderIngestService.ingest(body, format)));
+    }
+
     @Operation(summary = "주문 수정")
     @PutMapping("/{orderId}")
     public ResponseEntity<ApiResponse<Void>> updateOrder(@PathVariable String orderId,
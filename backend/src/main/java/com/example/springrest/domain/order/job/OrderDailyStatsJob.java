@@ -0,0 +1,52 @@
+package com.example.springrest.domain.order.job;
+
+import com.example.springrest.domain.order.service.OrderStatsService;
+import com.example.springrest.domain.scheduler.job.ScheduledJob;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 일별 집계 재계산 작업
+ * 증분 반영에서 어긋난 값 (직접 SQL 수정, 배치 적재 등) 을 원본 주문 기준으로 보정한다.
+ * beanParam: 최근 일수 (기본 7), ALL 이면 전체 재계산
+ * V1.11.0 마이그레이션에서 매일 02:30 스케줄로 등록된다.
+ */
+@Slf4j
+@Component("orderDailyStatsJob")
+@RequiredArgsConstructor
+public class OrderDailyStatsJob implements ScheduledJob {
+
+    private static final int DEFAULT_DAYS = 7;
+
+    private final OrderStatsService orderStatsService;
+
+    @Override
+    public void execute(String beanParam, ScheduleLog scheduleLog) {
+        LocalDate fromDate = fromDate(beanParam);
+        int rows = orderStatsService.reconcile(fromDate);
+
+        scheduleLog.setResult("S");
+        scheduleLog.setMessage("주문 일별 집계 재계산 (from=" + (fromDate != null ? fromDate : "ALL") + ", rows=" + rows
+                + ")");
+    }
+
+    private static LocalDate fromDate(String beanParam) {
+        String param = beanParam != null ? beanParam.trim() : "";
+        if ("ALL".equalsIgnoreCase(param)) {
+            return null;
+        }
+        int days = DEFAULT_DAYS;
+        if (!param.isEmpty()) {
+            try {
+                days = Integer.parseInt(param);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("beanParam 은 일수 또는 ALL 이어야 합니다: " + beanParam);
+            }
+        }
+        return LocalDate.now().minusDays(Math.max(days, 1) - 1L);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.springrest.domain.order.job;
+
+import com.example.springrest.domain.order.model.entity.Order;
+import com.example.springrest.domain.order.repository.OrderKeyMapper;
+import com.example.springrest.domain.scheduler.batch.ChunkJobRunner;
+import com.example.springrest.domain.scheduler.batch.ChunkReader;
+import com.example.springrest.domain.scheduler.batch.ChunkStep;
+import com.example.springrest.domain.scheduler.job.ScheduledJob;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 번호 키 (tb_order_keys) 보정 작업 (청크 배치)
+ * 직접 SQL 수정이나 적재 오류로 tb_orders 와 어긋난 키를 주문 번호 순으로 훑어 없으면 등록, 주문일이 다르면 수정한다.
+ * 청크마다 커밋하므로 중간에 실패하거나 중지되어도 다음 실행이 마지막 주문 번호 다음부터 이어서 처리한다.
+ * V1.16.0 마이그레이션에서 매일 03:20 스케줄로 등록된다.
+ */
+@Slf4j
+@Component("orderKeySyncJob")
+@RequiredArgsConstructor
+public class OrderKeySyncJob implements ScheduledJob {
+
+    private static final String JOB_KEY = "orderKeySyncJob";
+
+    private final OrderKeyMapper orderKeyMapper;
+    private final ChunkJobRunner chunkJobRunner;
+
+    @Override
+    public void execute(String beanParam, ScheduleLog scheduleLog) throws Exception {
+        ChunkStep<Order, Order> step = ChunkStep.<Order, Order>builder()
+                .reader(new ChunkReader<>() {
+                    @Override
+                    public List<Order> read(String checkpoint, int size) {
+                        return orderKeyMapper.findKeysAfter(checkpoint, size);
+                    }
+
+                    @Override
+                    public String checkpointOf(Order item) {
+                        return item.getOrderId();
+                    }
+                })
+                .writer(orderKeyMapper::upsertKeys)
+                .build();
+        chunkJobRunner.run(JOB_KEY, step, scheduleLog);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.springrest.domain.order.job;
+
+import com.example.springrest.domain.scheduler.job.ScheduledJob;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import com.example.springrest.global.common.service.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 주문 월별 파티션 생성 작업 (PostgreSQL)
+ * 이번 달부터 beanParam 개월 뒤 (기본 3) 까지의 파티션을 미리 만든다. 주문은 업무 데이터이므로 오래된 파티션은 삭제하지 않는다.
+ * V1.13.1 마이그레이션에서 매일 03:10 스케줄로 등록된다.
+ */
+@Slf4j
+@Component("orderPartitionJob")
+@RequiredArgsConstructor
+public class OrderPartitionJob implements ScheduledJob {
+
+    private static final String ORDER_TABLE = "tb_orders";
+    private static final int DEFAULT_PREMAKE_MONTHS = 3;
+
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    @Override
+    public void execute(String beanParam, ScheduleLog scheduleLog) {
+        int months = DEFAULT_PREMAKE_MONTHS;
+        if (beanParam != null && !beanParam.isBlank()) {
+            try {
+                months = Integer.parseInt(beanParam.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("beanParam 은 개월 수여야 합니다: " + beanParam);
+            }
+        }
+        YearMonth now = YearMonth.now();
+        List<String> created = partitionMaintenanceService.ensureMonthlyPartitions(ORDER_TABLE, now,
+                now.plusMonths(Math.max(months, 0)));
+
+        scheduleLog.setResult("S");
+        scheduleLog.setMessage("파티션 생성 " + created);
+    }
+}
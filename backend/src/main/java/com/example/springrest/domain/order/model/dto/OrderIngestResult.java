@@ -0,0 +1,40 @@
+package com.example.springrest.domain.order.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 대량 적재 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIngestResult {
+    private long received; // 읽은 행 수
+    private long accepted; // 적재 대상 행 수 (검증 통과)
+    private long rejected; // 검증 실패 행 수
+    private long duplicates; // 같은 요청 안의 중복 주문 번호 (마지막 행만 반영)
+    private long inserted; // 신규 등록 건수
+    private long updated; // 수정 건수
+    private long conflicts; // 다른 요청이 같은 주문 번호를 동시에 등록하여 반영하지 못한 건수
+    private long elapsedMillis;
+    private List<RowError> errors; // 검증 실패 및 충돌 행 (각각 최대 100건)
+
+    /**
+     * 검증 실패 또는 충돌 행
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long lineNo; // 입력 행 번호 (CSV 헤더 = 1)
+        private String orderId;
+        private String message;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.springrest.domain.order.model.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주문 스냅샷 집계 조건
+ */
+@Data
+public class OrderSnapshotQuery {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate; // 주문일 시작 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate; // 주문일 종료 (포함)
+    private List<String> statuses; // 주문 상태 (비어 있으면 전체)
+    private String custNm; // 고객명 (정확히 일치)
+    private Long minAmt; // 주문 금액 하한 (포함)
+    private Long maxAmt; // 주문 금액 상한 (포함)
+    private List<Long> buckets; // 금액 구간 경계 (오름차순, 예: 10000,50000 -> ~1만, 1만~5만, 5만~)
+}
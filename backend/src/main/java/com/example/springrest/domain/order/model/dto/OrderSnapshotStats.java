@@ -0,0 +1,37 @@
+package com.example.springrest.domain.order.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 스냅샷 집계 결과 (상태 x 금액 구간)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSnapshotStats {
+    private LocalDateTime refreshedAt; // 스냅샷 마지막 갱신 시각
+    private int rows; // 스냅샷 전체 주문 수
+    private long orderCnt; // 조건에 맞는 주문 수
+    private long orderAmt; // 조건에 맞는 주문 금액 합계
+    private long elapsedMicros;
+    private List<Group> groups;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        private String orderStatus;
+        private Long bucketFrom; // 금액 구간 하한 (포함, 첫 구간은 null)
+        private Long bucketTo; // 금액 구간 상한 (미포함, 마지막 구간은 null)
+        private long orderCnt;
+        private long orderAmt;
+    }
+}
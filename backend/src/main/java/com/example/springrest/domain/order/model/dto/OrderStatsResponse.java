@@ -0,0 +1,22 @@
+package com.example.springrest.domain.order.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 집계 응답 DTO (상태별 합계 조회 시 statDate 는 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsResponse {
+    private LocalDate statDate;
+    private String orderStatus;
+    private Long orderCnt;
+    private Long orderAmt;
+}
@@ -0,0 +1,25 @@
+package com.example.springrest.domain.order.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 일별 집계 Entity
+ * Table: tb_order_daily_stats
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDailyStats {
+    private LocalDate statDate; // 주문일
+    private String orderStatus; // 주문 상태
+    private Long orderCnt; // 주문 건수
+    private Long orderAmt; // 주문 금액 합계
+    private LocalDateTime sysUpdateDtm;
+}
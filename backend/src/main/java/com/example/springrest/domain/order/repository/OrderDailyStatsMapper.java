@@ -0,0 +1,40 @@
+package com.example.springrest.domain.order.repository;
+
+import com.example.springrest.domain.order.model.dto.OrderStatsResponse;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주문 일별 집계 Mapper (tb_order_daily_stats)
+ */
+@Mapper
+public interface OrderDailyStatsMapper {
+
+    /**
+     * (주문일, 상태) 집계에 건수/금액 증감 반영 (없으면 생성)
+     */
+    int applyDelta(@Param("statDate") LocalDate statDate,
+            @Param("orderStatus") String orderStatus,
+            @Param("cnt") long cnt,
+            @Param("amt") long amt);
+
+    /**
+     * [fromDate, toDate) 집계 삭제 (null 이면 해당 방향 제한 없음)
+     */
+    int deleteRange(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * [fromDate, toDate) 주문을 원본 기준으로 다시 집계하여 저장
+     */
+    int insertFromOrders(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    List<OrderStatsResponse> findDaily(@Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("orderStatus") String orderStatus);
+
+    List<OrderStatsResponse> findByStatus(@Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+}
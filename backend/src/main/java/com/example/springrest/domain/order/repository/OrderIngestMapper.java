@@ -0,0 +1,62 @@
+package com.example.springrest.domain.order.repository;
+
+import com.example.springrest.domain.order.model.dto.OrderIngestResult;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 주문 대량 적재 Mapper (PostgreSQL)
+ * 스테이징 테이블은 트랜잭션 종료 시 삭제되는 임시 테이블이므로 모든 메서드는 같은 트랜잭션 안에서 호출해야 한다.
+ */
+@Mapper
+public interface OrderIngestMapper {
+
+    String STAGING_TABLE = "tmp_order_ingest";
+
+    void createStaging();
+
+    /**
+     * 같은 주문 번호가 여러 번 들어온 경우 마지막 행만 남김
+     *
+     * @return 삭제한 중복 행 수
+     */
+    long removeDuplicates();
+
+    void analyzeStaging();
+
+    /**
+     * 덮어쓸 기존 주문을 잠그고 일별 집계에서 차감
+     */
+    int subtractExistingStats();
+
+    /**
+     * 이미 있는 주문 덮어쓰기 (tb_order_keys 의 기존 주문일로 파티션 위치 확인), 수정한 행은 스테이징에 merged 표시
+     *
+     * @return 수정 건수
+     */
+    int updateExisting();
+
+    /**
+     * 주문일이 바뀐 주문의 tb_order_keys 갱신 (updateExisting 이후 호출)
+     */
+    int moveKeys();
+
+    /**
+     * 새 주문 등록, 등록한 행은 스테이징에 merged 표시
+     *
+     * @return 신규 등록 건수
+     */
+    int insertNew();
+
+    /**
+     * 수정도 등록도 되지 않은 행 (다른 트랜잭션이 같은 주문 번호를 먼저 등록한 경우)
+     */
+    List<OrderIngestResult.RowError> findUnmerged(@Param("limit") int limit);
+
+    /**
+     * 실제로 반영한 (merged) 주문만 일별 집계에 가산
+     */
+    int addStagedStats();
+}
@@ -0,0 +1,26 @@
+package com.example.springrest.domain.order.repository;
+
+import com.example.springrest.domain.order.model.entity.Order;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 주문 번호 키 (tb_order_keys) 보정 Mapper
+ */
+@Mapper
+public interface OrderKeyMapper {
+
+    /**
+     * afterOrderId 다음 주문 번호부터 주문 번호 순으로 (order_id, order_date) 조회 (null 이면 처음부터)
+     */
+    List<Order> findKeysAfter(@Param("afterOrderId") String afterOrderId, @Param("size") int size);
+
+    /**
+     * 없거나 주문일이 다른 키만 등록/수정
+     *
+     * @return 등록/수정 건수
+     */
+    int upsertKeys(@Param("orders") List<Order> orders);
+}
@@ -3,12 +3,23 @@ package com.example.springrest.domain.order.repository;
 import com.example.springrest.domain.order.model.entity.Order;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
 import com.example.springrest.global.common.repository.BaseMapper;
+import com.example.springrest.global.common.repository.CursorTable;
+import com.example.springrest.global.util.Keyset;
 
+/**
+ * 주문 데이터 접근 매퍼
+ * 목록 조회 (페이지/커서, 공통/검색) 는 사용 여부(use_yn)와 관계없이 모든 주문을 조회한다 (use_yn 은 표시용 값이며 삭제는 행 삭제).
+ */
 @Mapper
+@CursorTable(name = "tb_orders",
+        columns = "order_id, cust_nm, order_nm, order_status, order_amt, order_date, use_yn, "
+                + "sys_insert_dtm, sys_insert_user_id, sys_update_dtm, sys_update_user_id",
+        sortTable = "orders", defaultSort = "sysInsertDtm,desc")
 public interface OrderMapper extends BaseMapper<Order, String> {
     List<Order> findAll();
 
@@ -17,8 +28,29 @@ public interface OrderMapper extends BaseMapper<Order, String> {
             @Param("endDate") String endDate,
             @Param("sort") String sort);
 
+    /**
+     * 검색 조건의 주문을 Cursor로 조회 (트랜잭션 안에서만 소비 가능)
+     */
+    Cursor<Order> streamAllWithSearch(@Param("custNm") String custNm,
+            @Param("startDate") String startDate,
+            @Param("endDate") String endDate,
+            @Param("sort") String sort);
+
+    /**
+     * 커서 페이지 조회 (keyset.limit 건)
+     */
+    List<Order> findAllWithSearchAfter(@Param("custNm") String custNm,
+            @Param("startDate") String startDate,
+            @Param("endDate") String endDate,
+            @Param("keyset") Keyset keyset);
+
     Order findById(@Param("orderId") String orderId);
 
+    /**
+     * 행 잠금 조회 (수정/삭제 전 집계 반영용 이전 값)
+     */
+    Order findByIdForUpdate(@Param("orderId") String orderId);
+
     int insert(Order order);
 
     int update(Order order);
@@ -0,0 +1,21 @@
+package com.example.springrest.domain.order.repository;
+
+import com.example.springrest.domain.order.model.entity.Order;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 컬럼형 스냅샷 적재 Mapper
+ */
+@Mapper
+public interface OrderSnapshotMapper {
+
+    /**
+     * since 이후 변경된 주문 (null 이면 전체), 스냅샷에 필요한 컬럼만 채움
+     * Cursor 이므로 트랜잭션 안에서만 소비 가능
+     */
+    Cursor<Order> streamChangedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,414 @@
+package com.example.springrest.domain.order.service;
+
+import com.example.springrest.domain.order.model.dto.OrderSnapshotQuery;
+import com.example.springrest.domain.order.model.dto.OrderSnapshotStats;
+import com.example.springrest.domain.order.model.entity.Order;
+import com.example.springrest.domain.order.repository.OrderSnapshotMapper;
+import com.example.springrest.global.config.OrderSnapshotProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 주문 메모리 컬럼형 스냅샷 (app.order-snapshot.enabled=true 일 때만 사용)
+ * tb_orders 를 주문일(epoch day) / 금액 / 상태 코드 / 고객 코드 기본형 배열로 보관하고, 대시보드 집계를 DB 왕복 없이 배열 스캔으로 처리한다.
+ * 상태와 고객명은 사전 인코딩 (문자열 -> int 코드) 한다.
+ * 배열은 CHUNK_SIZE 행 단위 청크로 나누어 보관한다. 갱신은 전용 스레드가 sys_update_dtm 기준 변경분만 반영하며,
+ * 기존 행을 바꿀 때는 그 행이 속한 청크만 복사한 뒤 새 스냅샷으로 교체하므로 (청크 단위 copy-on-write)
+ * 조회 스레드는 잠금 없이 자신이 잡은 스냅샷을 끝까지 일관되게 읽는다. 삭제는 전체 재적재 주기에 반영된다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.order-snapshot", name = "enabled", havingValue = "true")
+public class OrderColumnarSnapshot {
+
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 청크당 16,384행
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNKS = 16;
+
+    private final OrderSnapshotMapper orderSnapshotMapper;
+    private final OrderSnapshotProperties properties;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    // 전체 재적재가 공용 @Scheduled 스레드를 오래 점유하지 않도록 전용 스레드에서 갱신
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("order-snapshot-refresh").daemon(true).factory());
+
+    private volatile Columns published;
+
+    // 아래 필드는 갱신 스레드 전용 (refresh 동기화)
+    private Map<String, Integer> rowOf;
+    private Dictionary statuses;
+    private Dictionary customers;
+    private Chunk[] chunks;
+    private int size;
+    private LocalDateTime watermark;
+    private long lastFullRefresh;
+    // 갱신 도중 실패하여 작업 상태가 게시본과 어긋난 경우 (다음 갱신은 전체 재적재)
+    private boolean dirty;
+
+    public OrderColumnarSnapshot(OrderSnapshotMapper orderSnapshotMapper, OrderSnapshotProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.orderSnapshotMapper = orderSnapshotMapper;
+        this.properties = properties;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 기동 완료 후 전체 적재를 시작하고, 이후 refresh-interval 마다 갱신 (적재 전 조회는 IllegalStateException)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresher.scheduleWithFixedDelay(this::scheduledRefresh, 0, properties.getRefreshInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void scheduledRefresh() {
+        try {
+            boolean fullDue = System.currentTimeMillis() - lastFullRefresh >= properties.getFullRefreshInterval()
+                    .toMillis();
+            refresh(fullDue);
+        } catch (Exception e) {
+            log.error("주문 스냅샷 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 스냅샷 갱신
+     *
+     * @param full true 면 전체 재적재 (삭제된 주문 제거), false 면 마지막 변경 시각 이후만 반영
+     *             (직전 갱신이 실패했으면 false 여도 전체 재적재)
+     */
+    public synchronized void refresh(boolean full) {
+        long startedAt = System.currentTimeMillis();
+        if (full || published == null || dirty) {
+            rowOf = new HashMap<>();
+            statuses = new Dictionary();
+            customers = new Dictionary();
+            chunks = new Chunk[INITIAL_CHUNKS];
+            size = 0;
+            watermark = null;
+            full = true;
+        }
+        LocalDateTime since = full || watermark == null ? null : watermark.minus(properties.getLag());
+        int publishedSize = full ? 0 : published.size();
+
+        int[] changed = new int[2]; // 0: 추가, 1: 수정
+        // 조회 순서가 변경 시각 순이 아니므로 새 watermark 는 끝까지 읽은 뒤에만 반영
+        LocalDateTime[] maxUpdated = { watermark };
+        dirty = true;
+        BitSet copied = new BitSet(); // 이번 갱신에서 복사한 (게시 전이라 갱신 스레드만 보는) 청크
+        readOnlyTransactionTemplate.executeWithoutResult(tx -> {
+            try (Cursor<Order> cursor = orderSnapshotMapper.streamChangedSince(since)) {
+                for (Order order : cursor) {
+                    if (order.getOrderDate() == null) {
+                        continue;
+                    }
+                    Integer row = rowOf.get(order.getOrderId());
+                    if (row == null) {
+                        // 게시된 크기 밖의 행은 조회 스레드가 읽지 않으므로 기존 청크에 그대로 추가
+                        row = size++;
+                        ensureChunk(row >>> CHUNK_SHIFT);
+                        rowOf.put(order.getOrderId(), row);
+                        changed[0]++;
+                    } else {
+                        int c = row >>> CHUNK_SHIFT;
+                        if (row < publishedSize && !copied.get(c)) {
+                            // 조회 중인 스냅샷의 청크는 건드리지 않고, 바뀌는 청크만 복사
+                            chunks[c] = chunks[c].copy();
+                            copied.set(c);
+                        }
+                        changed[1]++;
+                    }
+                    Chunk chunk = chunks[row >>> CHUNK_SHIFT];
+                    int i = row & CHUNK_MASK;
+                    chunk.day[i] = (int) order.getOrderDate().toLocalDate().toEpochDay();
+                    chunk.amount[i] = order.getOrderAmt() != null ? order.getOrderAmt() : 0L;
+                    chunk.status[i] = statuses.code(order.getOrderStatus());
+                    chunk.customer[i] = customers.code(order.getCustNm());
+                    if (order.getSysUpdateDtm() != null
+                            && (maxUpdated[0] == null || order.getSysUpdateDtm().isAfter(maxUpdated[0]))) {
+                        maxUpdated[0] = order.getSysUpdateDtm();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        if (full || changed[0] > 0 || changed[1] > 0) {
+            published = new Columns(size, Arrays.copyOf(chunks, chunkCount(size)), statuses, customers,
+                    statuses.names.toArray(String[]::new), LocalDateTime.now());
+        }
+        watermark = maxUpdated[0];
+        dirty = false;
+        if (full) {
+            lastFullRefresh = startedAt;
+        }
+        log.debug("주문 스냅샷 갱신 -> full={}, rows={}, added={}, updated={}, copiedChunks={}, {}ms", full, size,
+                changed[0], changed[1], copied.cardinality(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 상태 x 금액 구간 집계
+     */
+    public OrderSnapshotStats aggregate(OrderSnapshotQuery query) {
+        Columns columns = published;
+        if (columns == null) {
+            throw new IllegalStateException("주문 스냅샷을 적재하는 중입니다.");
+        }
+        long startedAt = System.nanoTime();
+
+        Filter filter = Filter.of(query, columns);
+        int statusCount = columns.statusNames().length;
+        int groupCount = statusCount * (filter.bounds.length + 1);
+        int chunkCount = columns.chunks().length;
+        Partial total;
+        if (filter.empty || columns.size() == 0) {
+            total = new Partial(groupCount);
+        } else if (columns.size() < properties.getParallelThreshold()) {
+            total = scan(columns, filter, groupCount, 0, chunkCount);
+        } else {
+            // 청크 하나를 병렬 작업 단위로 사용
+            total = IntStream.range(0, chunkCount).parallel()
+                    .mapToObj(c -> scan(columns, filter, groupCount, c, c + 1))
+                    .reduce(Partial::merge)
+                    .orElseGet(() -> new Partial(groupCount));
+        }
+
+        List<OrderSnapshotStats.Group> groups = new ArrayList<>();
+        long orderCnt = 0;
+        long orderAmt = 0;
+        int bucketCount = filter.bounds.length + 1;
+        for (int g = 0; g < groupCount; g++) {
+            if (total.count[g] == 0) {
+                continue;
+            }
+            int bucket = g % bucketCount;
+            groups.add(OrderSnapshotStats.Group.builder()
+                    .orderStatus(columns.statusNames()[g / bucketCount])
+                    .bucketFrom(bucket == 0 ? null : filter.bounds[bucket - 1])
+                    .bucketTo(bucket == filter.bounds.length ? null : filter.bounds[bucket])
+                    .orderCnt(total.count[g])
+                    .orderAmt(total.sum[g])
+                    .build());
+            orderCnt += total.count[g];
+            orderAmt += total.sum[g];
+        }
+
+        return OrderSnapshotStats.builder()
+                .refreshedAt(columns.refreshedAt())
+                .rows(columns.size())
+                .orderCnt(orderCnt)
+                .orderAmt(orderAmt)
+                .elapsedMicros((System.nanoTime() - startedAt) / 1000)
+                .groups(groups)
+                .build();
+    }
+
+    /**
+     * [fromChunk, toChunk) 청크 스캔
+     * 조건을 단락 평가 없는 & 로 묶어 분기를 줄이고, 청크 배열을 순서대로 읽어 JIT 의 루프 최적화가 적용되기 쉽게 한다.
+     */
+    private static Partial scan(Columns columns, Filter filter, int groupCount, int fromChunk, int toChunk) {
+        long[] bounds = filter.bounds;
+        int bucketCount = bounds.length + 1;
+        boolean[] statusMask = filter.statusMask;
+        int minDay = filter.minDay;
+        int maxDay = filter.maxDay;
+        long minAmt = filter.minAmt;
+        long maxAmt = filter.maxAmt;
+        int cust = filter.customer;
+
+        Partial partial = new Partial(groupCount);
+        long[] count = partial.count;
+        long[] sum = partial.sum;
+        for (int c = fromChunk; c < toChunk; c++) {
+            Chunk chunk = columns.chunks()[c];
+            int rows = Math.min(CHUNK_SIZE, columns.size() - (c << CHUNK_SHIFT));
+            int[] day = chunk.day;
+            long[] amount = chunk.amount;
+            int[] status = chunk.status;
+            int[] customer = chunk.customer;
+            for (int i = 0; i < rows; i++) {
+                int d = day[i];
+                long a = amount[i];
+                int s = status[i];
+                if (d >= minDay & d <= maxDay & a >= minAmt & a <= maxAmt & statusMask[s]
+                        & (cust < 0 | customer[i] == cust)) {
+                    int bucket = 0;
+                    while (bucket < bounds.length && a >= bounds[bucket]) {
+                        bucket++;
+                    }
+                    int g = s * bucketCount + bucket;
+                    count[g]++;
+                    sum[g] += a;
+                }
+            }
+        }
+        return partial;
+    }
+
+    private void ensureChunk(int c) {
+        if (c >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[c] == null) {
+            chunks[c] = new Chunk();
+        }
+    }
+
+    private static int chunkCount(int rows) {
+        return (rows + CHUNK_MASK) >>> CHUNK_SHIFT;
+    }
+
+    /**
+     * 조회용 스냅샷 (청크 목록은 게시 시점 복사본, 행은 size 까지만 유효하며 게시 후 변경되지 않음)
+     */
+    private record Columns(int size, Chunk[] chunks, Dictionary statuses, Dictionary customers,
+            String[] statusNames, LocalDateTime refreshedAt) {
+    }
+
+    /**
+     * CHUNK_SIZE 행 단위 컬럼 배열
+     */
+    private static final class Chunk {
+        private final int[] day;
+        private final long[] amount;
+        private final int[] status;
+        private final int[] customer;
+
+        private Chunk() {
+            this(new int[CHUNK_SIZE], new long[CHUNK_SIZE], new int[CHUNK_SIZE], new int[CHUNK_SIZE]);
+        }
+
+        private Chunk(int[] day, long[] amount, int[] status, int[] customer) {
+            this.day = day;
+            this.amount = amount;
+            this.status = status;
+            this.customer = customer;
+        }
+
+        private Chunk copy() {
+            return new Chunk(day.clone(), amount.clone(), status.clone(), customer.clone());
+        }
+    }
+
+    /**
+     * 문자열 사전 (추가만 하며, 코드 조회는 조회 스레드에서도 가능)
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        private int code(String value) {
+            String key = value != null ? value : "";
+            Integer code = codes.get(key);
+            if (code == null) {
+                code = names.size();
+                names.add(key);
+                codes.put(key, code);
+            }
+            return code;
+        }
+    }
+
+    private static final class Filter {
+        private int minDay = Integer.MIN_VALUE;
+        private int maxDay = Integer.MAX_VALUE;
+        private long minAmt = Long.MIN_VALUE;
+        private long maxAmt = Long.MAX_VALUE;
+        private int customer = -1;
+        private boolean[] statusMask;
+        private long[] bounds = new long[0];
+        private boolean empty;
+
+        private static Filter of(OrderSnapshotQuery query, Columns columns) {
+            Filter filter = new Filter();
+            if (query.getStartDate() != null) {
+                filter.minDay = (int) query.getStartDate().toEpochDay();
+            }
+            if (query.getEndDate() != null) {
+                filter.maxDay = (int) query.getEndDate().toEpochDay();
+            }
+            if (query.getMinAmt() != null) {
+                filter.minAmt = query.getMinAmt();
+            }
+            if (query.getMaxAmt() != null) {
+                filter.maxAmt = query.getMaxAmt();
+            }
+
+            int statusCount = columns.statusNames().length;
+            filter.statusMask = new boolean[statusCount];
+            if (query.getStatuses() == null || query.getStatuses().isEmpty()) {
+                Arrays.fill(filter.statusMask, true);
+            } else {
+                for (String name : query.getStatuses()) {
+                    Integer code = columns.statuses().codes.get(name);
+                    if (code != null && code < statusCount) {
+                        filter.statusMask[code] = true;
+                    }
+                }
+            }
+
+            if (query.getCustNm() != null && !query.getCustNm().isEmpty()) {
+                Integer code = columns.customers().codes.get(query.getCustNm());
+                if (code == null) {
+                    filter.empty = true;
+                } else {
+                    filter.customer = code;
+                }
+            }
+
+            if (query.getBuckets() != null && !query.getBuckets().isEmpty()) {
+                filter.bounds = query.getBuckets().stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            }
+            return filter;
+        }
+    }
+
+    private static final class Partial {
+        private final long[] count;
+        private final long[] sum;
+
+        private Partial(int groupCount) {
+            this.count = new long[groupCount];
+            this.sum = new long[groupCount];
+        }
+
+        private Partial merge(Partial other) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += other.count[g];
+                sum[g] += other.sum[g];
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.springrest.domain.order.service;
+
+import com.example.springrest.domain.order.model.dto.OrderRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 주문 대량 적재 입력을 한 행씩 읽는 리더 (CSV / NDJSON)
+ * 입력 전체를 메모리에 올리지 않으며, 형식 오류가 있는 행은 오류로 반환하고 다음 행을 계속 읽는다.
+ */
+abstract class OrderIngestReader {
+
+    /**
+     * 읽은 행 (request 또는 error 중 하나)
+     */
+    record Row(long lineNo, OrderRequest request, String error) {
+    }
+
+    protected final BufferedReader reader;
+    protected long lineNo;
+
+    private OrderIngestReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static OrderIngestReader of(OrderIngestService.Format format, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return format == OrderIngestService.Format.CSV ? new Csv(reader) : new NdJson(reader, objectMapper);
+    }
+
+    /**
+     * 다음 행 (입력 끝이면 null)
+     */
+    abstract Row next() throws IOException;
+
+    /**
+     * NDJSON: 한 줄에 OrderRequest JSON 하나 (빈 줄 무시)
+     */
+    private static final class NdJson extends OrderIngestReader {
+        private final ObjectMapper objectMapper;
+
+        private NdJson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new Row(lineNo, objectMapper.readValue(line, OrderRequest.class), null);
+                } catch (IOException e) {
+                    return new Row(lineNo, null, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * CSV (RFC 4180): 첫 행은 헤더 (orderId 또는 order_id 형식), 따옴표 안의 쉼표/줄바꿈 허용
+     */
+    private static final class Csv extends OrderIngestReader {
+        private final Map<String, Integer> header = new HashMap<>();
+
+        private Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> names = readRecord();
+            if (names == null) {
+                return;
+            }
+            for (int i = 0; i < names.size(); i++) {
+                header.put(names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : List.of("orderid", "custnm", "ordernm")) {
+                if (!header.containsKey(required)) {
+                    throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + required);
+                }
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            while (true) {
+                long startLine = lineNo + 1;
+                List<String> fields;
+                try {
+                    fields = readRecord();
+                } catch (IllegalStateException e) {
+                    return new Row(startLine, null, e.getMessage());
+                }
+                if (fields == null) {
+                    return null;
+                }
+                if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                    continue;
+                }
+                try {
+                    return new Row(startLine, toRequest(fields), null);
+                } catch (RuntimeException e) {
+                    return new Row(startLine, null, e.getMessage());
+                }
+            }
+        }
+
+        private OrderRequest toRequest(List<String> fields) {
+            OrderRequest request = new OrderRequest();
+            request.setOrderId(field(fields, "orderid"));
+            request.setCustNm(field(fields, "custnm"));
+            request.setOrderNm(field(fields, "ordernm"));
+            request.setOrderStatus(field(fields, "orderstatus"));
+            String amount = field(fields, "orderamt");
+            if (amount != null) {
+                try {
+                    request.setOrderAmt(Long.valueOf(amount));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("주문 금액이 숫자가 아닙니다: " + amount);
+                }
+            }
+            String date = field(fields, "orderdate");
+            if (date != null) {
+                request.setOrderDate(OrderIngestService.parseDateTime(date));
+            }
+            return request;
+        }
+
+        private String field(List<String> fields, String name) {
+            Integer index = header.get(name);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * 레코드 하나 읽기 (입력 끝이면 null, 닫히지 않은 따옴표는 IllegalStateException)
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            lineNo++;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        throw new IllegalStateException("따옴표가 닫히지 않았습니다.");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNo++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c < 0 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == '\r') {
+                    // CRLF 의 CR 무시
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
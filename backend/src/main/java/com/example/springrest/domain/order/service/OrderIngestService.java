@@ -0,0 +1,244 @@
+package com.example.springrest.domain.order.service;
+
+import com.example.springrest.domain.order.model.dto.OrderIngestResult;
+import com.example.springrest.domain.order.model.dto.OrderRequest;
+import com.example.springrest.domain.order.repository.OrderIngestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 대량 적재 (PostgreSQL COPY)
+ * 입력을 한 행씩 검증하여 COPY 스트림으로 임시 스테이징 테이블에 적재한 뒤, 집합 단위 UPDATE / INSERT 로 tb_orders 에 병합한다.
+ * 요청 하나가 한 트랜잭션이며, 검증에 실패한 행만 제외하고 나머지는 모두 반영된다. 일별 집계도 같은 트랜잭션에서 증감 반영한다.
+ * 병합 도중 다른 트랜잭션이 같은 주문 번호를 먼저 등록한 행은 반영하지 않고 충돌 건수와 행으로 알린다.
+ */
+@Slf4j
+@Service
+public class OrderIngestService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final Set<String> STATUSES = Set.of("ORDERED", "PAID", "SHIPPED", "COMPLETED", "CANCELLED");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int MAX_ERRORS = 100;
+    // order_amt NUMERIC(15,0) 최댓값 (스테이징/tb_orders 동일): 넘으면 COPY 전체가 실패하므로 행 단위로 거부
+    static final long MAX_ORDER_AMT = 999_999_999_999_999L;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String COPY_SQL = "COPY " + OrderIngestMapper.STAGING_TABLE
+            + " (line_no, order_id, cust_nm, order_nm, order_status, order_amt, order_date) FROM STDIN WITH (FORMAT csv)";
+
+    private final OrderIngestMapper orderIngestMapper;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderIngestService(OrderIngestMapper orderIngestMapper, DataSource dataSource, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.orderIngestMapper = orderIngestMapper;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주문 대량 적재
+     *
+     * @param body   요청 본문 (UTF-8)
+     * @param format CSV 또는 NDJSON
+     */
+    public OrderIngestResult ingest(InputStream body, Format format) {
+        long startedAt = System.currentTimeMillis();
+        OrderIngestResult result = transactionTemplate.execute(status -> {
+            orderIngestMapper.createStaging();
+            OrderIngestResult copied = copy(body, format);
+
+            copied.setDuplicates(orderIngestMapper.removeDuplicates());
+            orderIngestMapper.analyzeStaging();
+            orderIngestMapper.subtractExistingStats();
+            copied.setUpdated(orderIngestMapper.updateExisting());
+            orderIngestMapper.moveKeys();
+            copied.setInserted(orderIngestMapper.insertNew());
+            copied.setConflicts(copied.getAccepted() - copied.getDuplicates() - copied.getUpdated()
+                    - copied.getInserted());
+            if (copied.getConflicts() > 0) {
+                for (OrderIngestResult.RowError conflict : orderIngestMapper.findUnmerged(MAX_ERRORS)) {
+                    conflict.setMessage("같은 주문 번호가 동시에 등록되어 반영하지 못했습니다.");
+                    copied.getErrors().add(conflict);
+                }
+            }
+            orderIngestMapper.addStagedStats();
+            return copied;
+        });
+        result.setElapsedMillis(System.currentTimeMillis() - startedAt);
+        log.info("주문 대량 적재 완료 -> format={}, received={}, rejected={}, inserted={}, updated={}, conflicts={}, {}ms",
+                format, result.getReceived(), result.getRejected(), result.getInserted(), result.getUpdated(),
+                result.getConflicts(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 입력 -> 검증 -> COPY (트랜잭션에 묶인 커넥션 사용)
+     */
+    private OrderIngestResult copy(InputStream body, Format format) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        long received = 0;
+        long rejected = 0;
+        List<OrderIngestResult.RowError> errors = new ArrayList<>();
+
+        PGCopyOutputStream copyStream = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            OrderIngestReader rows = OrderIngestReader.of(format, reader, objectMapper);
+            copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, COPY_BUFFER_SIZE);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8),
+                    COPY_BUFFER_SIZE);
+
+            OrderIngestReader.Row row;
+            while ((row = rows.next()) != null) {
+                received++;
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < MAX_ERRORS) {
+                        errors.add(OrderIngestResult.RowError.builder()
+                                .lineNo(row.lineNo())
+                                .orderId(row.request() != null ? row.request().getOrderId() : null)
+                                .message(error)
+                                .build());
+                    }
+                    continue;
+                }
+                writeCsv(writer, row.lineNo(), row.request());
+            }
+            writer.flush();
+            copyStream.endCopy();
+        } catch (IOException e) {
+            cancel(copyStream);
+            throw new UncheckedIOException("주문 대량 적재 입력 처리 실패", e);
+        } catch (SQLException e) {
+            cancel(copyStream);
+            throw new IllegalStateException("주문 대량 적재 COPY 실패", e);
+        } catch (RuntimeException e) {
+            cancel(copyStream);
+            throw e;
+        }
+
+        return OrderIngestResult.builder()
+                .received(received)
+                .accepted(received - rejected)
+                .rejected(rejected)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * 행 검증 및 기본값 채우기 (오류 메시지, 정상이면 null)
+     */
+    static String validate(OrderRequest request) {
+        if (isBlank(request.getOrderId()) || request.getOrderId().length() > 20) {
+            return "주문 번호는 1~20자여야 합니다.";
+        }
+        if (isBlank(request.getCustNm()) || request.getCustNm().length() > 100) {
+            return "고객명은 1~100자여야 합니다.";
+        }
+        if (isBlank(request.getOrderNm()) || request.getOrderNm().length() > 200) {
+            return "주문명은 1~200자여야 합니다.";
+        }
+        if (isBlank(request.getOrderStatus())) {
+            request.setOrderStatus("ORDERED");
+        } else if (!STATUSES.contains(request.getOrderStatus())) {
+            return "허용되지 않는 주문 상태입니다: " + request.getOrderStatus();
+        }
+        if (request.getOrderAmt() == null) {
+            request.setOrderAmt(0L);
+        } else if (request.getOrderAmt() < 0 || request.getOrderAmt() > MAX_ORDER_AMT) {
+            return "주문 금액 범위를 벗어났습니다: " + request.getOrderAmt();
+        }
+        if (request.getOrderDate() == null) {
+            request.setOrderDate(LocalDateTime.now());
+        }
+        return null;
+    }
+
+    private static void writeCsv(Writer writer, long lineNo, OrderRequest request) throws IOException {
+        writer.write(Long.toString(lineNo));
+        writer.write(',');
+        writeField(writer, request.getOrderId());
+        writer.write(',');
+        writeField(writer, request.getCustNm());
+        writer.write(',');
+        writeField(writer, request.getOrderNm());
+        writer.write(',');
+        writeField(writer, request.getOrderStatus());
+        writer.write(',');
+        writer.write(Long.toString(request.getOrderAmt()));
+        writer.write(',');
+        writer.write(request.getOrderDate().toString());
+        writer.write('\n');
+    }
+
+    /**
+     * 항상 따옴표로 감싸 빈 문자열/구분자/줄바꿈이 값으로 남게 함
+     */
+    private static void writeField(Writer writer, String value) throws IOException {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * 날짜 형식: ISO (2024-01-31T10:00:00), yyyy-MM-dd HH:mm:ss, yyyy-MM-dd
+     */
+    static LocalDateTime parseDateTime(String value) {
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            return value.indexOf('T') > 0 ? LocalDateTime.parse(value) : LocalDateTime.parse(value, DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("주문 일시 형식 오류: " + value);
+        }
+    }
+
+    private static void cancel(PGCopyOutputStream copyStream) {
+        if (copyStream != null && copyStream.isActive()) {
+            try {
+                copyStream.cancelCopy();
+            } catch (SQLException e) {
+                log.warn("COPY 취소 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
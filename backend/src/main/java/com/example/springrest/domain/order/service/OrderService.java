@@ -3,19 +3,28 @@ package com.example.springrest.domain.order.service;
 import com.example.springrest.domain.order.model.dto.OrderRequest;
 import com.example.springrest.domain.order.model.entity.Order;
 import com.example.springrest.domain.order.repository.OrderMapper;
+import com.example.springrest.global.model.dto.CursorPage;
 import com.example.springrest.global.model.dto.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.github.pagehelper.PageHelper;
 import com.github.pagehelper.PageInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import com.example.springrest.global.common.service.BaseService;
 import com.example.springrest.domain.order.model.dto.OrderResponse;
 import com.example.springrest.domain.order.model.mapper.OrderDtoMapper;
+import com.example.springrest.global.util.CursorCodec;
+import com.example.springrest.global.util.Keyset;
 import com.example.springrest.global.util.SortValidator;
 
 /**
@@ -26,9 +35,14 @@ import com.example.springrest.global.util.SortValidator;
 @RequiredArgsConstructor
 public class OrderService extends BaseService<Order, String, OrderMapper> {
 
+    private static final String DEFAULT_SORT = "sysInsertDtm,desc";
+    private static final int NDJSON_FLUSH_ROWS = 500;
+
     private final OrderMapper orderMapper;
     private final OrderDtoMapper orderDtoMapper;
     private final SortValidator sortValidator;
+    private final OrderStatsService orderStatsService;
+    private final ObjectMapper objectMapper;
 
     @Override
     protected OrderMapper getMapper() {
@@ -38,8 +52,40 @@ public class OrderService extends BaseService<Order, String, OrderMapper> {
     @Transactional(readOnly = true)
     public PageResponse<OrderResponse> getAllOrders(int page, int size, String custNm, String startDate, String endDate,
             String sort) {
+        if (startDate != null && !startDate.isEmpty()) {
+            startDate = startDate + " 00:00:00";
+        }
+        if (endDate != null && !endDate.isEmpty()) {
+            endDate = endDate + " 23:59:59";
+        }
+
+        String sortClause = toSortClause(sort);
+
         PageHelper.startPage(page, size);
+        List<Order> orders = orderMapper.findAllWithSearch(custNm, startDate, endDate, sortClause);
+        PageInfo<Order> pageInfo = new PageInfo<>(orders);
 
+        return PageResponse.of(pageInfo, orderDtoMapper.toResponseList(orders));
+    }
+
+    /**
+     * 정렬 조건 검증 및 ORDER BY 절 변환
+     * 다중 컬럼 정렬 + 유일 보조 정렬 (order_id) 로 페이지 경계 고정
+     */
+    public String toSortClause(String sort) {
+        return sortValidator.toOrderBy(sortValidator.parseSort("orders", sort, DEFAULT_SORT));
+    }
+
+    /**
+     * 검색 조건의 주문을 NDJSON (한 줄에 OrderResponse 하나) 으로 출력
+     * Cursor 로 fetch size 만큼씩 읽어 바로 쓰므로 전체 결과를 메모리에 올리지 않으며,
+     * 클라이언트가 느리면 소켓 쓰기가 막혀 DB 읽기도 함께 멈춘다.
+     *
+     * @param sortClause {@link #toSortClause(String)} 로 검증한 정렬 조건
+     */
+    @Transactional(readOnly = true)
+    public long writeNdjson(OutputStream out, String custNm, String startDate, String endDate, String sortClause)
+            throws IOException {
         if (startDate != null && !startDate.isEmpty()) {
             startDate = startDate + " 00:00:00";
         }
@@ -47,21 +93,41 @@ public class OrderService extends BaseService<Order, String, OrderMapper> {
             endDate = endDate + " 23:59:59";
         }
 
-        // Convert sort format if needed (e.g. from "camelCase,asc" to "snake_case asc")
-        // Assuming sort comes as "colId,direction"
-        // Sort validation
-        String sortClause = null;
-        if (sort != null && !sort.isEmpty()) {
-            String[] parts = sort.split(",");
-            if (parts.length == 2) {
-                sortClause = sortValidator.validateAndConvert("orders", parts[0], parts[1]);
+        ObjectWriter writer = objectMapper.writerFor(OrderResponse.class);
+        long count = 0;
+        try (Cursor<Order> cursor = orderMapper.streamAllWithSearch(custNm, startDate, endDate, sortClause)) {
+            for (Order order : cursor) {
+                out.write(writer.writeValueAsBytes(orderDtoMapper.toResponse(order)));
+                out.write('\n');
+                if (++count % NDJSON_FLUSH_ROWS == 0) {
+                    out.flush();
+                }
             }
         }
+        out.flush();
+        return count;
+    }
 
-        List<Order> orders = orderMapper.findAllWithSearch(custNm, startDate, endDate, sortClause);
-        PageInfo<Order> pageInfo = new PageInfo<>(orders);
+    /**
+     * 커서 페이징 목록 조회 (OFFSET 없이 마지막 행의 정렬 키 다음부터 조회, getAllOrders 와 같이 use_yn 과 관계없이 조회)
+     * 검색 조건이 없으면 공통 커서 조회 (BaseMapper.findAfter) 를 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> getOrdersAfter(String cursor, Integer size, String custNm, String startDate,
+            String endDate, String sort) {
+        if (!StringUtils.hasLength(custNm) && !StringUtils.hasLength(startDate) && !StringUtils.hasLength(endDate)) {
+            return findAfter(cursor, size, sort, orderDtoMapper::toResponseList);
+        }
+        if (startDate != null && !startDate.isEmpty()) {
+            startDate = startDate + " 00:00:00";
+        }
+        if (endDate != null && !endDate.isEmpty()) {
+            endDate = endDate + " 23:59:59";
+        }
 
-        return PageResponse.of(pageInfo, orderDtoMapper.toResponseList(orders));
+        Keyset keyset = CursorCodec.decode(sortValidator.parseKeysetSort("orders", sort, DEFAULT_SORT), cursor, size);
+        List<Order> orders = orderMapper.findAllWithSearchAfter(custNm, startDate, endDate, keyset);
+        return CursorPage.of(orders, keyset, orderDtoMapper::toResponseList);
     }
 
     @Transactional(readOnly = true)
@@ -76,17 +142,22 @@ public class OrderService extends BaseService<Order, String, OrderMapper> {
         }
         Order order = orderDtoMapper.toEntity(request);
         super.create(order);
+        orderStatsService.onCreated(order);
     }
 
     @Transactional
     public void updateOrder(OrderRequest request) {
+        Order before = orderMapper.findByIdForUpdate(request.getOrderId());
         Order order = orderDtoMapper.toEntity(request);
         super.update(order);
+        orderStatsService.onUpdated(before, order);
     }
 
     @Transactional
     public void deleteOrder(String orderId) {
+        Order before = orderMapper.findByIdForUpdate(orderId);
         super.delete(orderId);
+        orderStatsService.onDeleted(before);
     }
 
 }
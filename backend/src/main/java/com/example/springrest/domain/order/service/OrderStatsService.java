@@ -0,0 +1,99 @@
+package com.example.springrest.domain.order.service;
+
+import com.example.springrest.domain.order.model.dto.OrderStatsResponse;
+import com.example.springrest.domain.order.model.entity.Order;
+import com.example.springrest.domain.order.repository.OrderDailyStatsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 주문 일별 집계 서비스 (tb_order_daily_stats)
+ * 주문 변경은 호출한 트랜잭션 안에서 (주문일, 상태) 단위 증감으로 반영하고, 대시보드는 집계 테이블만 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+
+    private final OrderDailyStatsMapper orderDailyStatsMapper;
+
+    /**
+     * 주문 생성 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Order order) {
+        apply(order, 1);
+    }
+
+    /**
+     * 주문 수정 반영 (주문일/상태/금액이 바뀌지 않았으면 생략)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUpdated(Order before, Order after) {
+        if (before == null) {
+            return;
+        }
+        if (Objects.equals(day(before), day(after))
+                && Objects.equals(before.getOrderStatus(), after.getOrderStatus())
+                && Objects.equals(amount(before), amount(after))) {
+            return;
+        }
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    /**
+     * 주문 삭제 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Order before) {
+        if (before != null) {
+            apply(before, -1);
+        }
+    }
+
+    /**
+     * fromDate 이후 집계를 원본 주문 기준으로 다시 계산 (null 이면 전체)
+     *
+     * @return 재계산한 집계 행 수
+     */
+    @Transactional
+    public int reconcile(LocalDate fromDate) {
+        orderDailyStatsMapper.deleteRange(fromDate, null);
+        int rows = orderDailyStatsMapper.insertFromOrders(fromDate, null);
+        log.info("주문 일별 집계 재계산 -> from={}, rows={}", fromDate != null ? fromDate : "ALL", rows);
+        return rows;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderStatsResponse> getDailyStats(LocalDate startDate, LocalDate endDate, String orderStatus) {
+        return orderDailyStatsMapper.findDaily(startDate, endDate != null ? endDate.plusDays(1) : null, orderStatus);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderStatsResponse> getStatusStats(LocalDate startDate, LocalDate endDate) {
+        return orderDailyStatsMapper.findByStatus(startDate, endDate != null ? endDate.plusDays(1) : null);
+    }
+
+    private void apply(Order order, int sign) {
+        if (order.getOrderDate() == null || order.getOrderStatus() == null) {
+            return;
+        }
+        orderDailyStatsMapper.applyDelta(day(order), order.getOrderStatus(), sign, sign * amount(order));
+    }
+
+    private static LocalDate day(Order order) {
+        return order.getOrderDate() != null ? order.getOrderDate().toLocalDate() : null;
+    }
+
+    private static long amount(Order order) {
+        return order.getOrderAmt() != null ? order.getOrderAmt() : 0L;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.springrest.domain.scheduler.batch;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import com.example.springrest.domain.scheduler.job.CancellationToken;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleCheckpoint;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import com.example.springrest.domain.scheduler.repository.ScheduleCheckpointMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 청크 배치 실행기
+ * reader 로 청크를 읽고 processor 로 변환한 뒤, writer 기록과 체크포인트 저장을 청크마다 한 트랜잭션으로 커밋한다.
+ * 실패하거나 중지된 실행은 체크포인트가 남아 있어 다음 실행이 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ * 체크포인트는 실행 로그와 RUN_ID 로 연결한다 (시작 로그는 비동기로 기록되어 실행 중에는 로그 UID 가 없음).
+ * 사용 예: ScheduledJob 구현에서 chunkJobRunner.run(scheduleLog.getBeanName(), step, scheduleLog)
+ */
+@Slf4j
+@Component
+public class ChunkJobRunner {
+
+    private final ScheduleCheckpointMapper scheduleCheckpointMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerProperties.Batch defaults;
+
+    public ChunkJobRunner(ScheduleCheckpointMapper scheduleCheckpointMapper,
+            PlatformTransactionManager transactionManager, SchedulerProperties schedulerProperties) {
+        this.scheduleCheckpointMapper = scheduleCheckpointMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaults = schedulerProperties.getBatch();
+    }
+
+    /**
+     * 청크 배치 실행 (완료 시 scheduleLog 결과를 S 로 설정)
+     *
+     * @param jobKey 체크포인트 키 (같은 빈을 파라미터별로 따로 재개하려면 파라미터를 포함)
+     */
+    public <T, R> ChunkResult run(String jobKey, ChunkStep<T, R> step, ScheduleLog scheduleLog) throws Exception {
+        int chunkSize = step.getChunkSize() != null ? step.getChunkSize() : defaults.getChunkSize();
+        int parallelism = step.getParallelism() != null ? step.getParallelism() : defaults.getParallelism();
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize 는 1 이상이어야 합니다: " + chunkSize);
+        }
+
+        // 완료되지 않은 체크포인트가 있으면 이어서 처리
+        ScheduleCheckpoint saved = scheduleCheckpointMapper.findByJobKey(jobKey)
+                .filter(checkpoint -> !"C".equals(checkpoint.getStatus()))
+                .orElse(null);
+        String resumedFrom = saved != null ? saved.getCheckpoint() : null;
+        ScheduleCheckpoint state = ScheduleCheckpoint.builder()
+                .jobKey(jobKey)
+                .checkpoint(resumedFrom)
+                .readCount(saved != null ? saved.getReadCount() : 0L)
+                .writeCount(saved != null ? saved.getWriteCount() : 0L)
+                .chunkCount(saved != null ? saved.getChunkCount() : 0)
+                .status("R")
+                .build();
+        if (saved != null) {
+            log.info("청크 배치 재개 -> jobKey={}, checkpoint={}, chunks={}", jobKey, resumedFrom,
+                    saved.getChunkCount());
+        }
+
+        CancellationToken token = scheduleLog.getCancellationToken();
+        int chunks = 0;
+        long read = 0;
+        long written = 0;
+        try (ExecutorService pool = parallelism > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null) {
+            while (true) {
+                if (token != null) {
+                    token.throwIfCancelled();
+                }
+                List<T> items = step.getReader().read(state.getCheckpoint(), chunkSize);
+                if (items == null || items.isEmpty()) {
+                    break;
+                }
+                List<R> output = process(step.getProcessor(), items, parallelism, pool);
+
+                state.setCheckpoint(step.getReader().checkpointOf(items.get(items.size() - 1)));
+                state.setReadCount(state.getReadCount() + items.size());
+                state.setWriteCount(state.getWriteCount() + output.size());
+                state.setChunkCount(state.getChunkCount() + 1);
+                state.setRunId(scheduleLog.getRunId());
+                commit(step.getWriter(), output, state);
+
+                chunks++;
+                read += items.size();
+                written += output.size();
+                if (items.size() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            markFailed(jobKey, scheduleLog.getRunId());
+            throw e;
+        }
+
+        scheduleCheckpointMapper.updateStatus(jobKey, "C", scheduleLog.getRunId());
+        ChunkResult result = new ChunkResult(resumedFrom, chunks, read, written);
+        scheduleLog.setResult("S");
+        scheduleLog.setMessage("청크 " + chunks + "개 처리 (read=" + read + ", write=" + written
+                + (resumedFrom != null ? ", resumedFrom=" + resumedFrom : "") + ")");
+        return result;
+    }
+
+    /**
+     * 청크 기록 + 체크포인트 저장 (한 트랜잭션)
+     */
+    private <R> void commit(ChunkWriter<R> writer, List<R> output, ScheduleCheckpoint state) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                if (!output.isEmpty()) {
+                    writer.write(output);
+                }
+                scheduleCheckpointMapper.save(state);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, R> List<R> process(ChunkProcessor<T, R> processor, List<T> items, int parallelism,
+            ExecutorService pool) throws Exception {
+        if (processor == null) {
+            return (List<R>) items;
+        }
+        if (pool == null || items.size() < parallelism * 2) {
+            return processSlice(processor, items);
+        }
+
+        // 청크를 parallelism 개 구간으로 나누어 변환하고 원래 순서대로 합침
+        int sliceSize = (items.size() + parallelism - 1) / parallelism;
+        List<Future<List<R>>> futures = new ArrayList<>(parallelism);
+        for (int from = 0; from < items.size(); from += sliceSize) {
+            List<T> slice = items.subList(from, Math.min(from + sliceSize, items.size()));
+            futures.add(pool.submit(() -> processSlice(processor, slice)));
+        }
+        List<R> output = new ArrayList<>(items.size());
+        try {
+            for (Future<List<R>> future : futures) {
+                output.addAll(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        return output;
+    }
+
+    private static <T, R> List<R> processSlice(ChunkProcessor<T, R> processor, List<T> items) throws Exception {
+        List<R> output = new ArrayList<>(items.size());
+        for (T item : items) {
+            R processed = processor.process(item);
+            if (processed != null) {
+                output.add(processed);
+            }
+        }
+        return output;
+    }
+
+    private void markFailed(String jobKey, String runId) {
+        try {
+            scheduleCheckpointMapper.updateStatus(jobKey, "F", runId);
+        } catch (Exception e) {
+            log.error("청크 배치 체크포인트 실패 상태 기록 실패 -> jobKey={}", jobKey, e);
+        }
+    }
+}
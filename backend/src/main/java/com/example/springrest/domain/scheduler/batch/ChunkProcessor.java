@@ -0,0 +1,11 @@
+package com.example.springrest.domain.scheduler.batch;
+
+/**
+ * 청크 배치 항목 변환 (null 반환 시 해당 항목은 기록하지 않음)
+ * 병렬 처리 시 여러 스레드에서 동시에 호출되므로 상태를 공유하지 않아야 한다.
+ */
+@FunctionalInterface
+public interface ChunkProcessor<T, R> {
+
+    R process(T item) throws Exception;
+}
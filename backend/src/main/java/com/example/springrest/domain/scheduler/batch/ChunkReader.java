@@ -0,0 +1,22 @@
+package com.example.springrest.domain.scheduler.batch;
+
+import java.util.List;
+
+/**
+ * 청크 배치 읽기
+ * checkpoint 다음 위치부터 키 순서로 읽는다 (keyset). 재실행 시 마지막으로 커밋된 checkpoint 부터 이어 읽는다.
+ */
+public interface ChunkReader<T> {
+
+    /**
+     * @param checkpoint 마지막으로 커밋한 위치 (null 이면 처음부터)
+     * @param size       최대 건수
+     * @return 다음 청크 (비어 있으면 종료)
+     */
+    List<T> read(String checkpoint, int size) throws Exception;
+
+    /**
+     * 청크 마지막 항목의 위치 (다음 read 의 checkpoint 로 저장)
+     */
+    String checkpointOf(T item);
+}
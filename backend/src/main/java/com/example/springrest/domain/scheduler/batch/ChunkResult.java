@@ -0,0 +1,9 @@
+package com.example.springrest.domain.scheduler.batch;
+
+/**
+ * 청크 배치 실행 결과
+ *
+ * @param resumedFrom 재개한 체크포인트 (처음부터 실행했으면 null)
+ */
+public record ChunkResult(String resumedFrom, int chunks, long readCount, long writeCount) {
+}
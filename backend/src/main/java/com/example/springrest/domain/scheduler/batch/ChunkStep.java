@@ -0,0 +1,18 @@
+package com.example.springrest.domain.scheduler.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 청크 배치 작업 정의
+ * chunkSize / parallelism 을 지정하지 않으면 app.scheduler.batch 기본값을 사용한다.
+ */
+@Getter
+@Builder
+public class ChunkStep<T, R> {
+    private final ChunkReader<T> reader;
+    private final ChunkProcessor<T, R> processor;
+    private final ChunkWriter<R> writer;
+    private final Integer chunkSize; // 청크(커밋) 단위 건수
+    private final Integer parallelism; // 청크 내 항목 변환 병렬도 (1 이면 순차)
+}
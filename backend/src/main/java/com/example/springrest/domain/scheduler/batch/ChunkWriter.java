@@ -0,0 +1,12 @@
+package com.example.springrest.domain.scheduler.batch;
+
+import java.util.List;
+
+/**
+ * 청크 배치 기록 (청크당 한 트랜잭션, 체크포인트와 함께 커밋)
+ */
+@FunctionalInterface
+public interface ChunkWriter<R> {
+
+    void write(List<R> items) throws Exception;
+}
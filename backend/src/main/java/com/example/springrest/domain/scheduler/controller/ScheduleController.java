@@ -1,13 +1,17 @@
 package com.example.springrest.domain.scheduler.controller;
 
 import com.example.springrest.domain.scheduler.model.dto.ScheduleLogResponse;
+import com.example.springrest.domain.scheduler.model.dto.ScheduleLogSearchDto;
 import com.example.springrest.domain.scheduler.model.dto.ScheduleRequest;
 import com.example.springrest.domain.scheduler.model.dto.ScheduleResponse;
+import com.example.springrest.domain.scheduler.model.dto.ScheduleStatsResponse;
 import com.example.springrest.domain.scheduler.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.example.springrest.global.model.dto.ApiResponse;
 
 import java.util.List;
@@ -29,8 +33,9 @@ public class ScheduleController {
     }
 
     @GetMapping("/logs")
-    public ResponseEntity<ApiResponse<List<ScheduleLogResponse>>> getAllScheduleLogs() {
-        return ResponseEntity.ok(ApiResponse.success(scheduleService.getAllScheduleLogs()));
+    public ResponseEntity<ApiResponse<List<ScheduleLogResponse>>> getScheduleLogs(
+            @ModelAttribute ScheduleLogSearchDto search) {
+        return ResponseEntity.ok(ApiResponse.success(scheduleService.getScheduleLogs(search)));
     }
 
     @GetMapping("/{uid}")
@@ -38,6 +43,16 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success(scheduleService.getSchedule(uid)));
     }
 
+    @GetMapping("/{uid}/stats")
+    public ResponseEntity<ApiResponse<ScheduleStatsResponse>> getScheduleStats(@PathVariable("uid") Long uid) {
+        return ResponseEntity.ok(ApiResponse.success(scheduleService.getScheduleStats(uid)));
+    }
+
+    @GetMapping(value = "/{uid}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(@PathVariable("uid") Long uid) {
+        return scheduleService.subscribeEvents(uid);
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<ScheduleResponse>> createSchedule(@RequestBody ScheduleRequest request) {
         return ResponseEntity.ok(ApiResponse.success(scheduleService.createSchedule(request)));
@@ -0,0 +1,85 @@
+package com.example.springrest.domain.scheduler.job;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 스케줄 실행 1회의 취소 신호
+ * DUP_STOP 재실행 또는 실행 제한 시간 초과 시 취소되며, 작업은 {@link #isCancelled()} / {@link #throwIfCancelled()} 로
+ * 반복 처리 사이에 확인하여 스스로 종료한다. 블로킹 호출 중인 경우를 위해 실행 스레드에도 인터럽트를 건다.
+ */
+public class CancellationToken {
+
+    public enum Reason {
+        DUP_STOP, TIMEOUT
+    }
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile Reason reason;
+    private volatile Thread thread;
+
+    public boolean isCancelled() {
+        return reason != null;
+    }
+
+    /**
+     * 취소되었으면 CancellationException
+     */
+    public void throwIfCancelled() {
+        Reason current = reason;
+        if (current != null) {
+            throw new CancellationException("스케줄 실행 취소됨: " + current);
+        }
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * 취소 신호 (먼저 들어온 사유 유지)
+     */
+    public synchronized void cancel(Reason cancelReason) {
+        if (reason != null || completion.isDone()) {
+            return;
+        }
+        reason = cancelReason;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * 실행 종료 시점 (완료 후 이어서 실행할 작업 연결용)
+     */
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    // --- 실행기 전용 ---
+
+    /**
+     * 실행 스레드 연결 (취소 시 인터럽트 대상)
+     */
+    public synchronized void bind(Thread runner) {
+        this.thread = runner;
+    }
+
+    /**
+     * 실행 스레드 연결 해제 (작업 본문 종료 후 실행 스레드에서 호출, 남은 인터럽트 상태 정리)
+     */
+    public synchronized void unbind() {
+        this.thread = null;
+        Thread.interrupted();
+    }
+
+    public synchronized void complete() {
+        this.thread = null;
+        completion.complete(null);
+    }
+}
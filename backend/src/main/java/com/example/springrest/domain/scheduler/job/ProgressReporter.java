@@ -0,0 +1,15 @@
+package com.example.springrest.domain.scheduler.job;
+
+/**
+ * 작업 진행 상황 전달 (SSE 구독자에게 전파, 작업 스레드를 막지 않음)
+ */
+@FunctionalInterface
+public interface ProgressReporter {
+
+    /**
+     * @param percent   진행률 0~100 (모르면 null)
+     * @param processed 처리 건수 (모르면 null)
+     * @param message   진행 메시지
+     */
+    void report(Integer percent, Long processed, String message);
+}
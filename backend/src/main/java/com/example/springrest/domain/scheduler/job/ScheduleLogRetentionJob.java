@@ -0,0 +1,41 @@
+package com.example.springrest.domain.scheduler.job;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import com.example.springrest.global.common.service.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 스케줄 로그 월별 파티션 관리 작업 (PostgreSQL)
+ * 다음 월 파티션을 미리 만들고, 보관 기간이 지난 월 파티션을 삭제한다.
+ * V1.7.1 마이그레이션에서 매일 03:00 스케줄로 등록된다.
+ */
+@Slf4j
+@Component("scheduleLogRetentionJob")
+@RequiredArgsConstructor
+public class ScheduleLogRetentionJob implements ScheduledJob {
+
+    private static final String LOG_TABLE = "sa_sync_schedule_log";
+
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final SchedulerProperties schedulerProperties;
+
+    @Override
+    public void execute(String beanParam, ScheduleLog scheduleLog) {
+        SchedulerProperties.LogRetention retention = schedulerProperties.getLogRetention();
+        YearMonth now = YearMonth.now();
+
+        List<String> created = partitionMaintenanceService.ensureMonthlyPartitions(LOG_TABLE, now,
+                now.plusMonths(retention.getPremakeMonths()));
+        List<String> dropped = partitionMaintenanceService.dropMonthlyPartitionsBefore(LOG_TABLE,
+                now.minusMonths(retention.getMonths() - 1L));
+
+        scheduleLog.setResult("S");
+        scheduleLog.setMessage("파티션 생성 " + created + ", 삭제 " + dropped);
+    }
+}
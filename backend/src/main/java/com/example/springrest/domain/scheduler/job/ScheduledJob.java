@@ -0,0 +1,19 @@
+package com.example.springrest.domain.scheduler.job;
+
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+
+/**
+ * 동적 스케줄러 작업 계약
+ * 스케줄에 등록되는 빈은 이 인터페이스를 구현하며, 실행 결과는 scheduleLog 에 직접 설정할 수 있다.
+ * (result 를 설정하지 않으면 정상 종료 시 "S" 로 기록)
+ * 오래 걸리는 작업은 scheduleLog.getCancellationToken() 을 반복 처리 사이에 확인하여 DUP_STOP / 제한 시간 초과 시 종료한다.
+ */
+@FunctionalInterface
+public interface ScheduledJob {
+
+    /**
+     * @param beanParam   스케줄에 등록된 파라미터 (JSON 문자열 등)
+     * @param scheduleLog 현재 실행 로그
+     */
+    void execute(String beanParam, ScheduleLog scheduleLog) throws Exception;
+}
@@ -9,12 +9,12 @@ import org.springframework.stereotype.Component;
  */
 @Slf4j
 @Component("testPrintJob")
-public class TestPrintJob {
+public class TestPrintJob implements ScheduledJob {
 
     /**
-     * ScheduleService 의 리플렉션 로직이 "execute" 메서드를 찾아 실행합니다.
      * beanParam (JSON 문자열 등)을 인자로 받고, scheduleLog에 실행 결과를 설정합니다.
      */
+    @Override
     public void execute(String beanParam, ScheduleLog scheduleLog) {
         log.info("==========================================");
         log.info(">>> TestPrintJob 실행 시작 <<<");
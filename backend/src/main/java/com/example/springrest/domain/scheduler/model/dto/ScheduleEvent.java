@@ -0,0 +1,23 @@
+package com.example.springrest.domain.scheduler.model.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 실행 이벤트 (SSE /{uid}/events)
+ */
+@Data
+@Builder
+public class ScheduleEvent {
+    private String type; // START, PROGRESS, END
+    private Long uid; // 스케줄 일련번호
+    private String beanName;
+    private String runId; // 실행 ID (DAG 실행은 묶음 전체가 공유)
+    private Integer percent; // 진행률 0~100
+    private Long processed; // 처리 건수
+    private String message;
+    private String result; // END 시 결과 (S/F/T)
+    private LocalDateTime time;
+}
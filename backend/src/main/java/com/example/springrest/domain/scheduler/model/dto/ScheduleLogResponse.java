@@ -13,11 +13,12 @@ public class ScheduleLogResponse {
     private String corpCode;
     private String beanName;
     private String method; // S:스케줄실행, D:직접실행
-    private String result; // S:성공, F:실패, I:진행중
+    private String result; // S:성공, F:실패, I:진행중, T:시간초과, X:건너뜀(선행 실패)
     private String message;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private String worker;
+    private String runId;
 
     public static ScheduleLogResponse fromEntity(ScheduleLog entity) {
         return ScheduleLogResponse.builder()
@@ -30,6 +31,7 @@ public class ScheduleLogResponse {
                 .startTime(entity.getStartTime())
                 .endTime(entity.getEndTime())
                 .worker(entity.getWorker())
+                .runId(entity.getRunId())
                 .build();
     }
 }
@@ -0,0 +1,43 @@
+package com.example.springrest.domain.scheduler.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 로그 조회 조건 (키셋 페이지네이션)
+ * 다음 페이지는 이전 응답 마지막 행의 startTime / uid 를 cursorStartTime / cursorUid 로 넘긴다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleLogSearchDto {
+    private String beanName;
+    private String result; // S:성공, F:실패, I:진행중, T:시간초과, X:건너뜀
+    private String runId; // 실행 ID (DAG 실행은 묶음 전체가 공유)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorStartTime;
+
+    private Long cursorUid;
+    private Integer size;
+
+    /**
+     * 종료일 다음날 00:00 (START_TIME &lt; 조건으로 파티션 범위 조회)
+     */
+    public LocalDateTime getEndDateExclusive() {
+        return endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+    }
+}
@@ -3,14 +3,18 @@ package com.example.springrest.domain.scheduler.model.dto;
 import com.example.springrest.domain.scheduler.model.entity.Schedule;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class ScheduleRequest {
     private String beanName;
     private String beanParam;
     private Boolean used;
     private Boolean dupStop;
+    private Integer timeoutSec;
     private String cron;
     private String comment;
+    private List<Long> parentUids; // 선행 스케줄 (모두 성공하면 실행, null 이면 변경 없음)
     private String creator;
     private String updater;
 
@@ -20,6 +24,7 @@ public class ScheduleRequest {
                 .beanParam(this.beanParam)
                 .used(this.used)
                 .dupStop(this.dupStop)
+                .timeoutSec(this.timeoutSec)
                 .cron(this.cron)
                 .comment(this.comment)
                 .creator(this.creator)
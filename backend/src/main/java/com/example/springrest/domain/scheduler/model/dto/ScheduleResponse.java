@@ -4,6 +4,7 @@ import com.example.springrest.domain.scheduler.model.entity.Schedule;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 public class ScheduleResponse {
@@ -12,8 +13,10 @@ public class ScheduleResponse {
     private String beanParam;
     private Boolean used;
     private Boolean dupStop;
+    private Integer timeoutSec;
     private String cron;
     private String comment;
+    private List<Long> parentUids;
     private LocalDateTime createTime;
     private String creator;
     private LocalDateTime updateTime;
@@ -26,6 +29,7 @@ public class ScheduleResponse {
         response.setBeanParam(entity.getBeanParam());
         response.setUsed(entity.getUsed());
         response.setDupStop(entity.getDupStop());
+        response.setTimeoutSec(entity.getTimeoutSec());
         response.setCron(entity.getCron());
         response.setComment(entity.getComment());
         response.setCreateTime(entity.getCreateTime());
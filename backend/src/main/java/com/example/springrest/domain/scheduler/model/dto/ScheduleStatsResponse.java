@@ -0,0 +1,27 @@
+package com.example.springrest.domain.scheduler.model.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 스케줄 실행 통계 (이 노드 기동 이후, 빈 단위 집계)
+ */
+@Data
+@Builder
+public class ScheduleStatsResponse {
+    private Long uid;
+    private String beanName;
+    private long runs; // 실행 시작 수
+    private long successes;
+    private long failures;
+    private double meanDurationMs;
+    private double maxDurationMs; // 최근 구간 최대값
+    private double p95DurationMs;
+    private double p99DurationMs;
+    private double meanQueueWaitMs; // 트리거 -> 실행 시작 대기
+    private long overlaps; // 이전 실행이 끝나기 전에 다시 실행된 수
+    private long dupStopInterrupts; // DUP_STOP 으로 중지시킨 기존 실행 수
+    private long timeouts; // 실행 제한 시간 초과 수 (RESULT = T)
+    private long missedFires; // 예정 시각보다 임계값 이상 늦게 실행된 수
+    private double maxFireLagMs;
+}
@@ -20,6 +20,7 @@ public class Schedule {
     private String beanParam; // 스케줄 파라메터 (JSON)
     private Boolean used; // 사용여부 (1: true, 0: false)
     private Boolean dupStop; // 중복 실행 방지여부 (1: true, 0: false)
+    private Integer timeoutSec; // 실행 제한 시간(초), null/0 이면 제한 없음
     private String cron; // 스케줄 (Cron expression)
     private String comment; // 스케줄 설명
     private LocalDateTime createTime; // 생성시간
@@ -0,0 +1,26 @@
+package com.example.springrest.domain.scheduler.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 배치 작업 체크포인트 엔티티 (SA_SYNC_SCHEDULE_CHECKPOINT)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleCheckpoint {
+    private String jobKey; // 작업 키 (기본: 스케줄 빈)
+    private String checkpoint; // 마지막으로 커밋한 청크의 위치
+    private Long readCount; // 누적 읽은 건수
+    private Long writeCount; // 누적 기록 건수
+    private Integer chunkCount; // 누적 커밋 청크 수
+    private String status; // R:진행중, F:실패, C:완료
+    private String runId; // 마지막 실행 ID (SA_SYNC_SCHEDULE_LOG.RUN_ID)
+    private LocalDateTime updateTime; // 수정시간
+}
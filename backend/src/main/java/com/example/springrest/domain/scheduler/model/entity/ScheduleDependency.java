@@ -0,0 +1,18 @@
+package com.example.springrest.domain.scheduler.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 의존 관계 엔티티 (SA_SYNC_SCHEDULE_DEPENDENCY)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleDependency {
+    private Long scheduleUid; // 후속 스케줄 일련번호
+    private Long parentUid; // 선행 스케줄 일련번호
+}
@@ -0,0 +1,26 @@
+package com.example.springrest.domain.scheduler.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다중 노드 스케줄 실행 lease 엔티티 (SA_SYNC_SCHEDULE_LEASE)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleLease {
+    private Long scheduleUid; // 스케줄 일련번호
+    private LocalDateTime fireTime; // 예정 실행시각
+    private String owner; // 실행 노드 ID
+    private String status; // R:실행중, S:성공, F:실패, C:중지
+    private Boolean cancelReq; // 중지 요청 여부
+    private LocalDateTime leaseUntil; // lease 만료시각
+    private LocalDateTime claimTime; // 점유시각
+    private LocalDateTime endTime; // 종료시각
+}
@@ -1,5 +1,7 @@
 package com.example.springrest.domain.scheduler.model.entity;
 
+import com.example.springrest.domain.scheduler.job.CancellationToken;
+import com.example.springrest.domain.scheduler.job.ProgressReporter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,9 +21,25 @@ public class ScheduleLog {
     private String corpCode; // 회사코드
     private String beanName; // 스케줄 빈
     private String method; // S:스케줄실행, D:직접실행
-    private String result; // S:성공, F:실패, I:진행중
+    private String result; // S:성공, F:실패, I:진행중, T:시간초과, X:건너뜀(선행 실패)
     private String message; // 성공 또는 실패 메시지
     private LocalDateTime startTime; // 작업 시작시간
     private LocalDateTime endTime; // 작업 종료시간
     private String worker; // 작업자
+    private String runId; // 실행 ID (실행 시작 시 부여, DAG 실행은 의존 관계로 이어진 실행이 같은 값을 공유)
+
+    // 실행 취소 신호 (DB 컬럼 아님). 작업은 반복 처리 사이에 확인하여 스스로 종료한다.
+    private CancellationToken cancellationToken;
+
+    // 진행 상황 전달 (DB 컬럼 아님)
+    private ProgressReporter progressReporter;
+
+    /**
+     * 진행 상황 전달 (구독자가 없거나 실행기 밖에서 만든 로그이면 무시)
+     */
+    public void reportProgress(Integer percent, Long processed, String message) {
+        if (progressReporter != null) {
+            progressReporter.report(percent, processed, message);
+        }
+    }
 }
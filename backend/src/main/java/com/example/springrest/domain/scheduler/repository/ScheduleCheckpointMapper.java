@@ -0,0 +1,26 @@
+package com.example.springrest.domain.scheduler.repository;
+
+import com.example.springrest.domain.scheduler.model.entity.ScheduleCheckpoint;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Optional;
+
+/**
+ * 청크 배치 작업 체크포인트 (SA_SYNC_SCHEDULE_CHECKPOINT) MyBatis Mapper
+ */
+@Mapper
+public interface ScheduleCheckpointMapper {
+
+    Optional<ScheduleCheckpoint> findByJobKey(@Param("jobKey") String jobKey);
+
+    /**
+     * 체크포인트 저장 (INSERT ... ON CONFLICT DO UPDATE)
+     */
+    int save(ScheduleCheckpoint checkpoint);
+
+    /**
+     * 상태 변경 (F: 실패 후 재개 대상, C: 완료 - 다음 실행은 처음부터)
+     */
+    int updateStatus(@Param("jobKey") String jobKey, @Param("status") String status, @Param("runId") String runId);
+}
@@ -0,0 +1,34 @@
+package com.example.springrest.domain.scheduler.repository;
+
+import com.example.springrest.domain.scheduler.model.entity.ScheduleDependency;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 스케줄 의존 관계 (SA_SYNC_SCHEDULE_DEPENDENCY) MyBatis Mapper
+ */
+@Mapper
+public interface ScheduleDependencyMapper {
+
+    /**
+     * 전체 의존 관계 조회 (의존 그래프 구성용)
+     */
+    List<ScheduleDependency> findAll();
+
+    /**
+     * 후속 스케줄의 선행 스케줄 일괄 등록
+     */
+    int insertParents(@Param("scheduleUid") Long scheduleUid, @Param("parentUids") List<Long> parentUids);
+
+    /**
+     * 후속 스케줄의 선행 관계 삭제
+     */
+    int deleteBySchedule(@Param("scheduleUid") Long scheduleUid);
+
+    /**
+     * 스케줄 삭제 시 선행/후속 관계 모두 삭제
+     */
+    int deleteByScheduleOrParent(@Param("uid") Long uid);
+}
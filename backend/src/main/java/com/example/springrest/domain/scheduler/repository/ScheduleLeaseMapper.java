@@ -0,0 +1,67 @@
+package com.example.springrest.domain.scheduler.repository;
+
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLease;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 다중 노드 스케줄 실행 lease (SA_SYNC_SCHEDULE_LEASE) MyBatis Mapper
+ */
+@Mapper
+public interface ScheduleLeaseMapper {
+
+    /**
+     * 실행 점유 (INSERT ... ON CONFLICT DO NOTHING)
+     *
+     * @return 1: 점유 성공, 0: 다른 노드가 이미 점유
+     */
+    int claim(@Param("scheduleUid") Long scheduleUid, @Param("fireTime") LocalDateTime fireTime,
+            @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 노드에서 실제로 실행 중인 lease 만료시각 일괄 연장 (heartbeat)
+     */
+    int renew(@Param("owner") String owner, @Param("leases") List<ScheduleLease> leases,
+            @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 만료된 실행 중 lease 조회 (FOR UPDATE SKIP LOCKED, 트랜잭션 안에서 호출)
+     */
+    List<ScheduleLease> findExpiredForUpdate(@Param("limit") int limit);
+
+    /**
+     * 만료된 lease 인계
+     */
+    int takeOver(@Param("scheduleUid") Long scheduleUid, @Param("fireTime") LocalDateTime fireTime,
+            @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 실행 종료 기록
+     */
+    int complete(@Param("scheduleUid") Long scheduleUid, @Param("fireTime") LocalDateTime fireTime,
+            @Param("owner") String owner, @Param("status") String status);
+
+    /**
+     * 동일 스케줄의 다른 실행 중 lease 에 중지 요청 (DUP_STOP)
+     */
+    int requestCancel(@Param("scheduleUid") Long scheduleUid, @Param("exceptFireTime") LocalDateTime exceptFireTime);
+
+    /**
+     * 동일 스케줄의 다른 실행 중 lease 수 (만료되지 않은 것만)
+     */
+    int countRunningOthers(@Param("scheduleUid") Long scheduleUid,
+            @Param("exceptFireTime") LocalDateTime exceptFireTime);
+
+    /**
+     * 노드가 실행 중인 lease 중 중지 요청된 목록
+     */
+    List<ScheduleLease> findCancelRequested(@Param("owner") String owner);
+
+    /**
+     * 보관 기간이 지난 종료 lease 삭제
+     */
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,7 +1,9 @@
 package com.example.springrest.domain.scheduler.repository;
 
+import com.example.springrest.domain.scheduler.model.dto.ScheduleLogSearchDto;
 import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -22,7 +24,18 @@ public interface ScheduleLogMapper {
     int updateLog(ScheduleLog scheduleLog);
 
     /**
-     * 전체 스케줄 로그 목록 조회
+     * 스케줄 로그 다건 등록 (multi-row INSERT, 생성된 UID 를 각 항목에 설정)
+     * START_TIME / END_TIME 은 호출자가 기록한 시각을 그대로 저장
      */
-    List<ScheduleLog> findAllLogs();
+    int insertLogs(List<ScheduleLog> scheduleLogs);
+
+    /**
+     * 스케줄 로그 다건 종료 처리 (UPDATE ... FROM VALUES, uid 와 시작 로그의 startTime 으로 식별)
+     */
+    int updateLogs(@Param("logs") List<ScheduleLog> scheduleLogs);
+
+    /**
+     * 스케줄 로그 목록 조회 (START_TIME DESC, UID DESC 키셋 페이지네이션)
+     */
+    List<ScheduleLog> findLogs(ScheduleLogSearchDto search);
 }
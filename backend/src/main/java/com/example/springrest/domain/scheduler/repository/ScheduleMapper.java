@@ -42,4 +42,9 @@ public interface ScheduleMapper {
      * 스케줄 삭제
      */
     int delete(@Param("uid") Long uid);
+
+    /**
+     * 스케줄 변경 알림 (pg_notify, 트랜잭션 커밋 시 전달)
+     */
+    Integer notifyChange(@Param("channel") String channel, @Param("payload") String payload);
 }
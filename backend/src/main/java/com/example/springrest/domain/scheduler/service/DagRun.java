@@ -0,0 +1,84 @@
+package com.example.springrest.domain.scheduler.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DAG 실행 1회의 진행 상태
+ * 루트 실행 시점의 의존 그래프에서 루트의 후속 스케줄만 대상으로 하며,
+ * 후속 스케줄은 이번 실행 범위 안의 선행 스케줄이 모두 끝나면 준비되고, 하나라도 실패/건너뜀이면 건너뛴다.
+ */
+final class DagRun {
+
+    /**
+     * @param ready   실행할 스케줄
+     * @param skipped 선행 실패로 건너뛸 스케줄 (후속까지 전파된 결과 포함)
+     */
+    record Step(List<Long> ready, List<Long> skipped) {
+    }
+
+    private final String runId;
+    private final ScheduleGraph graph;
+    private final Map<Long, AtomicInteger> pendingParents = new HashMap<>();
+    private final Set<Long> failedParents = ConcurrentHashMap.newKeySet();
+
+    DagRun(String runId, Long rootUid, ScheduleGraph graph) {
+        this.runId = runId;
+        this.graph = graph;
+        Set<Long> nodes = graph.descendants(rootUid);
+        nodes.remove(rootUid);
+        for (Long node : nodes) {
+            long count = graph.parents(node).stream()
+                    .filter(parent -> parent.equals(rootUid) || nodes.contains(parent))
+                    .count();
+            pendingParents.put(node, new AtomicInteger((int) count));
+        }
+    }
+
+    String getRunId() {
+        return runId;
+    }
+
+    /**
+     * 스케줄 종료 반영 (여러 작업 스레드에서 동시에 호출 가능)
+     */
+    Step complete(Long uid, boolean success) {
+        List<Long> ready = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        Deque<Long> failed = new ArrayDeque<>();
+
+        release(uid, success, ready, skipped, failed);
+        // 건너뛴 스케줄의 후속도 실패로 전파
+        while (!failed.isEmpty()) {
+            release(failed.poll(), false, ready, skipped, failed);
+        }
+        return new Step(ready, skipped);
+    }
+
+    private void release(Long uid, boolean success, List<Long> ready, List<Long> skipped, Deque<Long> failed) {
+        for (Long child : graph.children(uid)) {
+            AtomicInteger pending = pendingParents.get(child);
+            if (pending == null) {
+                continue;
+            }
+            if (!success) {
+                failedParents.add(child);
+            }
+            if (pending.decrementAndGet() == 0) {
+                if (failedParents.contains(child)) {
+                    skipped.add(child);
+                    failed.add(child);
+                } else {
+                    ready.add(child);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.springrest.domain.scheduler.service;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 예정 실행시각을 기억하는 CronTrigger 래퍼
+ * 스케줄러는 작업 실행이 끝난 뒤 다음 시각을 계산하므로, 작업 실행 중 {@link #getFireTime()} 은 현재 실행의 예정 시각이다.
+ * 모든 노드에서 같은 값이 나오므로 다중 노드 lease 키로 사용한다.
+ */
+class FireTimeTrigger implements Trigger {
+
+    private final CronTrigger delegate;
+    private volatile Instant fireTime;
+
+    FireTimeTrigger(String cron) {
+        this.delegate = new CronTrigger(cron);
+    }
+
+    @Override
+    public Instant nextExecution(TriggerContext triggerContext) {
+        Instant next = delegate.nextExecution(triggerContext);
+        fireTime = next;
+        return next;
+    }
+
+    LocalDateTime getFireTime() {
+        Instant current = fireTime;
+        return current != null ? LocalDateTime.ofInstant(current, ZoneId.systemDefault()) : null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * 스케줄 변경 LISTEN (PostgreSQL)
+ * 커넥션 풀과 별도의 전용 연결 하나로 채널을 구독하고, 다른 노드가 발행한 변경만 해당 스케줄 단위로 재등록한다.
+ * 연결이 끊겼다가 다시 연결되면 놓친 알림을 보정하기 위해 한 번 전체 재동기화한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.scheduler.notify", name = "enabled", havingValue = "true")
+public class ScheduleChangeListener {
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int POLL_TIMEOUT_MILLIS = 30_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ScheduleService scheduleService;
+    private final SchedulerProperties.Notify properties;
+    private final String nodeId;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public ScheduleChangeListener(DataSourceProperties dataSourceProperties, ScheduleService scheduleService,
+            SchedulerProperties schedulerProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.scheduleService = scheduleService;
+        this.properties = schedulerProperties.getNotify();
+        this.nodeId = schedulerProperties.getCluster().getNodeId();
+        if (!CHANNEL.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("허용되지 않는 NOTIFY 채널명입니다: " + properties.getChannel());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform().name("schedule-change-listener").daemon(true).start(this::runLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        Connection current = connection;
+        if (current != null) {
+            try {
+                current.close(); // 대기 중인 getNotifications 해제
+            } catch (Exception ignored) {
+                // 종료 중
+            }
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread.join(5000);
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                log.info("스케줄 변경 알림 구독 시작 -> channel={}", properties.getChannel());
+
+                scheduleService.resyncSchedules();
+                listen(conn, pgConnection);
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("스케줄 변경 알림 연결 오류, {} 후 재연결: {}", properties.getReconnectBackoff(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getReconnectBackoff().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void listen(Connection conn, PGConnection pgConnection) throws Exception {
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+            if (notifications == null || notifications.length == 0) {
+                // 알림이 없는 동안 연결 확인 (끊긴 TCP 연결 감지)
+                if (!conn.isValid(5)) {
+                    throw new IllegalStateException("LISTEN 연결이 유효하지 않습니다.");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+
+    /**
+     * payload = uid:발행노드 (자기 노드가 발행한 알림은 이미 반영되어 있으므로 무시)
+     */
+    private void handle(String payload) {
+        try {
+            String[] parts = payload.split(":", 2);
+            if (parts.length == 2 && nodeId.equals(parts[1])) {
+                return;
+            }
+            scheduleService.applyScheduleChange(Long.valueOf(parts[0]));
+        } catch (Exception e) {
+            log.error("스케줄 변경 알림 처리 실패 -> payload={}", payload, e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.domain.scheduler.model.dto.ScheduleEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 실행 이벤트 SSE 전파 (메모리, 노드 단위)
+ * 구독자마다 크기 제한 큐와 전송 전용 가상 스레드를 두어, 작업 스레드는 큐에 넣기만 하고 네트워크 전송을 기다리지 않는다.
+ * 느린 구독자의 큐가 가득 차면 가장 오래된 이벤트를 버린다.
+ */
+@Slf4j
+@Component
+public class ScheduleEventBroadcaster {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long HEARTBEAT_MILLIS = TimeUnit.SECONDS.toMillis(15);
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 스케줄 이벤트 구독
+     */
+    public SseEmitter subscribe(Long uid) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(uid, emitter);
+        subscribers.computeIfAbsent(uid, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    /**
+     * 구독자 존재 여부 (진행 이벤트 생성 전 확인용)
+     */
+    public boolean hasSubscribers(Long uid) {
+        Set<Subscriber> targets = subscribers.get(uid);
+        return targets != null && !targets.isEmpty();
+    }
+
+    /**
+     * 이벤트 발행 (대기 없음)
+     */
+    public void publish(ScheduleEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getUid());
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(event);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }));
+        subscribers.clear();
+    }
+
+    private final class Subscriber {
+        private final Long uid;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ScheduleEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private volatile boolean closed;
+        private Thread sender;
+
+        private Subscriber(Long uid, SseEmitter emitter) {
+            this.uid = uid;
+            this.emitter = emitter;
+        }
+
+        private void start() {
+            sender = Thread.ofVirtual().name("schedule-sse-" + uid).start(this::sendLoop);
+        }
+
+        private void offer(ScheduleEvent event) {
+            while (!closed && !queue.offer(event)) {
+                queue.poll(); // 가득 찬 경우 가장 오래된 이벤트 버림
+            }
+        }
+
+        private void sendLoop() {
+            try {
+                while (!closed) {
+                    ScheduleEvent event = queue.poll(HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        // 프록시 유휴 타임아웃 방지 + 끊긴 연결 감지
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(event.getType()).data(event));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.debug("스케줄 이벤트 구독 연결 종료 -> uid={}: {}", uid, e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.computeIfPresent(uid, (key, targets) -> {
+                targets.remove(this);
+                return targets.isEmpty() ? null : targets;
+            });
+            if (sender != null && sender != Thread.currentThread()) {
+                sender.interrupt();
+            }
+        }
+    }
+}
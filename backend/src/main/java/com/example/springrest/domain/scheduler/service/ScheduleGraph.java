@@ -0,0 +1,99 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.domain.scheduler.model.entity.ScheduleDependency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스케줄 의존 그래프 (불변, 변경 시 새로 만들어 교체)
+ */
+final class ScheduleGraph {
+
+    private static final ScheduleGraph EMPTY = new ScheduleGraph(Map.of(), Map.of());
+
+    private final Map<Long, List<Long>> parents;
+    private final Map<Long, List<Long>> children;
+
+    private ScheduleGraph(Map<Long, List<Long>> parents, Map<Long, List<Long>> children) {
+        this.parents = parents;
+        this.children = children;
+    }
+
+    static ScheduleGraph empty() {
+        return EMPTY;
+    }
+
+    static ScheduleGraph of(Collection<ScheduleDependency> dependencies) {
+        Map<Long, List<Long>> parents = new HashMap<>();
+        Map<Long, List<Long>> children = new HashMap<>();
+        for (ScheduleDependency dependency : dependencies) {
+            parents.computeIfAbsent(dependency.getScheduleUid(), k -> new ArrayList<>()).add(dependency.getParentUid());
+            children.computeIfAbsent(dependency.getParentUid(), k -> new ArrayList<>()).add(dependency.getScheduleUid());
+        }
+        return new ScheduleGraph(parents, children);
+    }
+
+    List<Long> parents(Long uid) {
+        return parents.getOrDefault(uid, List.of());
+    }
+
+    List<Long> children(Long uid) {
+        return children.getOrDefault(uid, List.of());
+    }
+
+    boolean hasParents(Long uid) {
+        return parents.containsKey(uid);
+    }
+
+    boolean hasChildren(Long uid) {
+        return children.containsKey(uid);
+    }
+
+    /**
+     * root 에서 도달 가능한 후속 스케줄 전체 (순환이 있으면 root 자신도 포함)
+     */
+    Set<Long> descendants(Long root) {
+        Set<Long> visited = new LinkedHashSet<>();
+        Deque<Long> queue = new ArrayDeque<>(children(root));
+        while (!queue.isEmpty()) {
+            Long uid = queue.poll();
+            if (visited.add(uid)) {
+                queue.addAll(children(uid));
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * uid 의 선행 스케줄을 교체한 그래프
+     */
+    ScheduleGraph withParents(Long uid, Collection<Long> parentUids) {
+        List<ScheduleDependency> dependencies = new ArrayList<>();
+        parents.forEach((child, list) -> {
+            if (!child.equals(uid)) {
+                list.forEach(parent -> dependencies.add(new ScheduleDependency(child, parent)));
+            }
+        });
+        parentUids.forEach(parent -> dependencies.add(new ScheduleDependency(uid, parent)));
+        return of(dependencies);
+    }
+
+    /**
+     * 두 그래프에서 uid 의 선행 스케줄 집합이 같은지 (순서 무관)
+     */
+    boolean sameParents(ScheduleGraph other, Long uid) {
+        return Set.copyOf(parents(uid)).equals(Set.copyOf(other.parents(uid)));
+    }
+
+    boolean hasCycleThrough(Long uid) {
+        return descendants(uid).contains(uid);
+    }
+}
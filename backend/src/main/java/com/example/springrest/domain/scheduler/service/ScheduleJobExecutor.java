@@ -0,0 +1,171 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동적 스케줄 작업 본문 실행기
+ * 트리거 스레드는 작업을 여기로 넘기고 바로 반환하므로, 오래 걸리는 작업이 다른 스케줄의 트리거를 막지 않는다.
+ * 실행기는 가상 스레드(기본) 또는 고정 크기 스레드 풀이며, 빈별 동시 실행 수는 Semaphore 로 제한한다.
+ */
+@Slf4j
+@Component
+public class ScheduleJobExecutor {
+
+    private final SchedulerProperties.Executor properties;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final ScheduleMetrics scheduleMetrics;
+    private final Map<String, Semaphore> beanPermits = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public ScheduleJobExecutor(SchedulerProperties schedulerProperties, MeterRegistry meterRegistry,
+            ScheduleMetrics scheduleMetrics) {
+        this.properties = schedulerProperties.getExecutor();
+        this.meterRegistry = meterRegistry;
+        this.scheduleMetrics = scheduleMetrics;
+        this.executor = switch (properties.getType()) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("schedule-job-", 0).factory());
+            case BOUNDED -> new ThreadPoolExecutor(properties.getMaxThreads(), properties.getMaxThreads(),
+                    0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                    new CustomizableThreadFactory("schedule-job-"), new ThreadPoolExecutor.AbortPolicy());
+        };
+
+        Gauge.builder("scheduler.executor.active", active, AtomicInteger::get)
+                .description("실행 중인 스케줄 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.executor.queued", queued, AtomicInteger::get)
+                .description("실행 대기 중인 스케줄 작업 수 (동시 실행 제한 대기 포함)")
+                .register(meterRegistry);
+        if (executor instanceof ThreadPoolExecutor pool) {
+            Gauge.builder("scheduler.executor.utilization", pool,
+                    p -> (double) p.getActiveCount() / p.getMaximumPoolSize())
+                    .description("스레드 풀 사용률 (BOUNDED)")
+                    .register(meterRegistry);
+        }
+        this.rejected = Counter.builder("scheduler.executor.rejected")
+                .description("대기열 초과로 거절된 스케줄 작업 수")
+                .register(meterRegistry);
+        log.info("스케줄 작업 실행기 -> type={}, perBeanLimit={}", properties.getType(), properties.getPerBeanLimit());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.getShutdownWait().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("스케줄 작업 실행기 종료 대기 시간 초과, 실행 중 작업 인터럽트");
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 실행 진입 처리 접수 (빈별 동시 실행 제한 없음)
+     * 스케줄 정의 확인, lease 점유, DUP_STOP 처리처럼 짧은 진입 처리만 하고 작업 본문은 submit 으로 다시 접수한다.
+     * 진입 처리가 실행 자리를 차지하면 같은 빈의 이전 실행을 중지하고 이어서 실행하는 흐름이 동시 실행 제한에 막힌다.
+     *
+     * @return 실행기에 접수되었는지 여부 (대기열 초과 시 false)
+     */
+    public boolean dispatch(String beanName, Runnable entry) {
+        try {
+            executor.execute(entry);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("스케줄 작업 실행 거절 (대기열 초과) -> bean={}", beanName);
+            return false;
+        }
+    }
+
+    /**
+     * 작업 실행 요청
+     * 빈별 동시 실행 제한을 넘으면 permitWait 만큼 기다린 뒤에도 자리가 없으면 이번 실행은 건너뛴다.
+     * 반환된 future 는 빈별 실행 자리를 반납한 뒤 완료되므로, 여기에 연결한 후속 접수는 이 실행과 자리를 다투지 않는다.
+     *
+     * @return 실행 여부 (true: 실행됨 (예외 종료 포함), false: 대기열 초과 또는 동시 실행 제한으로 건너뜀)
+     */
+    public CompletableFuture<Boolean> submit(String beanName, Runnable task) {
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        queued.incrementAndGet();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(beanName, task, submittedAt, done));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.increment();
+            log.warn("스케줄 작업 실행 거절 (대기열 초과) -> bean={}", beanName);
+            done.complete(false);
+        }
+        return done;
+    }
+
+    private void run(String beanName, Runnable task, long submittedAt, CompletableFuture<Boolean> done) {
+        Semaphore permits = permits(beanName);
+        try {
+            if (permits != null && !acquire(permits)) {
+                queued.decrementAndGet();
+                meterRegistry.counter("scheduler.jobs.throttled", "bean", beanName).increment();
+                log.warn("스케줄 빈 동시 실행 제한 초과로 실행 건너뜀 -> bean={}", beanName);
+                done.complete(false);
+                return;
+            }
+        } catch (InterruptedException e) {
+            queued.decrementAndGet();
+            Thread.currentThread().interrupt();
+            done.complete(false);
+            return;
+        }
+
+        queued.decrementAndGet();
+        scheduleMetrics.recordQueueWait(beanName, System.nanoTime() - submittedAt);
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+            done.complete(true);
+        }
+    }
+
+    private boolean acquire(Semaphore permits) throws InterruptedException {
+        long waitMillis = properties.getPermitWait().toMillis();
+        return waitMillis > 0 ? permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS) : permits.tryAcquire();
+    }
+
+    private Semaphore permits(String beanName) {
+        int limit = properties.getPerBeanLimits().getOrDefault(beanName, properties.getPerBeanLimit());
+        if (limit <= 0) {
+            return null;
+        }
+        return beanPermits.computeIfAbsent(beanName, name -> {
+            Semaphore semaphore = new Semaphore(limit);
+            Gauge.builder("scheduler.jobs.permits.available", semaphore, Semaphore::availablePermits)
+                    .description("빈별 남은 동시 실행 수")
+                    .tag("bean", name)
+                    .register(meterRegistry);
+            return semaphore;
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.domain.scheduler.job.ScheduledJob;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄 빈 이름별 실행 진입점 캐시
+ * 빈 조회와 execute 메서드 탐색은 등록 시점(또는 컨텍스트 refresh 시점)에 한 번만 수행하고,
+ * 트리거 실행 시에는 캐시된 {@link ScheduledJob} 을 직접 호출한다.
+ *
+ * {@link ScheduledJob} 을 구현하지 않은 기존 빈은 execute(String, ScheduleLog) / execute(String) / execute()
+ * 메서드를 MethodHandle 로 변환하여 동일한 시그니처로 감싼다.
+ */
+@Slf4j
+@Component
+public class ScheduleJobRegistry implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final MethodType JOB_TYPE = MethodType.methodType(void.class, String.class, ScheduleLog.class);
+
+    private final ApplicationContext applicationContext;
+    private final Map<String, ScheduledJob> jobs = new ConcurrentHashMap<>();
+
+    public ScheduleJobRegistry(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * 빈 이름의 실행 진입점 조회 (최초 1회 해석 후 캐시)
+     *
+     * @throws IllegalArgumentException 빈이 없거나 execute 메서드가 없을 때
+     */
+    public ScheduledJob get(String beanName) {
+        ScheduledJob job = jobs.get(beanName);
+        return job != null ? job : jobs.computeIfAbsent(beanName, this::resolve);
+    }
+
+    /**
+     * 컨텍스트 refresh 시 빈 인스턴스가 바뀔 수 있으므로 캐시된 빈을 다시 해석
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        for (String beanName : List.copyOf(jobs.keySet())) {
+            try {
+                jobs.put(beanName, resolve(beanName));
+            } catch (RuntimeException e) {
+                jobs.remove(beanName);
+                log.warn("스케줄 빈 재해석 실패 -> bean={}: {}", beanName, e.getMessage());
+            }
+        }
+    }
+
+    private ScheduledJob resolve(String beanName) {
+        if (!applicationContext.containsBean(beanName)) {
+            throw new IllegalArgumentException("스케줄 빈(" + beanName + ")을 찾을 수 없습니다.");
+        }
+        Object bean = applicationContext.getBean(beanName);
+        if (bean instanceof ScheduledJob job) {
+            return job;
+        }
+
+        Method method = findExecuteMethod(bean);
+        if (method == null) {
+            throw new IllegalArgumentException("스케줄 빈(" + beanName + ")에서 'execute' 메서드를 찾을 수 없습니다.");
+        }
+        log.debug("ScheduledJob 미구현 빈, MethodHandle 로 연결 -> bean={}, method={}", beanName, method);
+        return adapt(bean, method);
+    }
+
+    /**
+     * execute 메서드를 (String, ScheduleLog) -> void 형태의 MethodHandle 로 변환
+     */
+    private static ScheduledJob adapt(Object bean, Method method) {
+        MethodHandle handle;
+        try {
+            method.trySetAccessible();
+            handle = MethodHandles.lookup().unreflect(method).bindTo(bean);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("스케줄 메서드에 접근할 수 없습니다: " + method, e);
+        }
+
+        int paramCount = method.getParameterCount();
+        if (paramCount < 2) {
+            // 사용하지 않는 뒤쪽 인자 제거: execute(String) / execute()
+            handle = MethodHandles.dropArguments(handle, paramCount, JOB_TYPE.parameterList().subList(paramCount, 2));
+        }
+        MethodHandle target = handle.asType(JOB_TYPE);
+
+        return (beanParam, scheduleLog) -> {
+            try {
+                target.invokeExact(beanParam, scheduleLog);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    private static Method findExecuteMethod(Object bean) {
+        Method fallback = null;
+        for (Method m : bean.getClass().getMethods()) {
+            if ("execute".equals(m.getName())) {
+                Class<?>[] paramTypes = m.getParameterTypes();
+                // (String, ScheduleLog) 시그니처 우선
+                if (paramTypes.length == 2 && paramTypes[0] == String.class && paramTypes[1] == ScheduleLog.class) {
+                    return m;
+                }
+                // (String) 또는 () 시그니처는 fallback
+                if (paramTypes.length == 0 || (paramTypes.length == 1 && paramTypes[0] == String.class)) {
+                    fallback = m;
+                }
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import com.example.springrest.domain.scheduler.job.CancellationToken;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLease;
+import com.example.springrest.domain.scheduler.repository.ScheduleLeaseMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 다중 노드 스케줄 실행 lease 관리
+ * 트리거가 발생하면 모든 노드가 (스케줄 UID, 예정 실행시각) 으로 INSERT ... ON CONFLICT DO NOTHING 을 시도하고,
+ * 성공한 노드 하나만 작업을 실행한다. 실행 중에는 heartbeat 로 lease 를 연장하며,
+ * 연장이 끊긴(노드 장애) lease 는 다른 노드가 FOR UPDATE SKIP LOCKED 로 인계하여 다시 실행한다.
+ * DUP_STOP 은 CANCEL_REQ 플래그로 다른 노드의 기존 실행까지 중지하며, 종료 확인은 작업 스레드를 점유하지 않고
+ * taskScheduler 에서 주기적으로 조회한다 (로컬 실행의 completion().whenComplete 와 같은 방식).
+ * lease 종료 기록과 취소 신호 완료는 빈별 실행 자리를 반납한 뒤에 하므로, 이어지는 실행이 동시 실행 제한에 막히지 않는다.
+ * DAG 후속 스케줄은 lease 없이 선행을 실행한 노드에서 이어서 실행하므로, 실행 도중 노드가 중단되면
+ * 남은 후속 스케줄은 인계되지 않고 다음 트리거에서 다시 실행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleLeaseService {
+
+    private static final int TAKEOVER_BATCH_SIZE = 10;
+    private static final long DUP_STOP_POLL_MILLIS = 200;
+
+    private final ScheduleLeaseMapper scheduleLeaseMapper;
+    private final SchedulerProperties schedulerProperties;
+    private final ScheduleMetrics scheduleMetrics;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    // 이 노드에서 실행 중인 lease -> 실행 취소 신호
+    private final Map<LeaseKey, CancellationToken> localRuns = new ConcurrentHashMap<>();
+
+    record LeaseKey(Long scheduleUid, LocalDateTime fireTime) {
+    }
+
+    public boolean isClusterEnabled() {
+        return schedulerProperties.getCluster().isEnabled();
+    }
+
+    /**
+     * 점유 시도 전 대기 시간
+     * 로컬 실행 중인 작업이 많을수록 늦게 시도하여 한가한 노드가 먼저 점유하도록 한다.
+     * 호출자는 이 시간만큼 스레드를 재우지 않고 taskScheduler 로 점유 시도를 미룬다.
+     */
+    public Duration claimDelay() {
+        return cluster().getClaimBackoff().multipliedBy(localRuns.size());
+    }
+
+    /**
+     * 예정 실행시각에 대한 실행 점유
+     *
+     * @return 점유 성공 여부 (false 이면 다른 노드가 실행)
+     */
+    public boolean claim(Long scheduleUid, LocalDateTime fireTime) {
+        return scheduleLeaseMapper.claim(scheduleUid, fireTime, nodeId(), leaseSeconds()) == 1;
+    }
+
+    /**
+     * 점유한 lease 로 작업 실행 (종료 기록은 호출자가 빈별 실행 자리를 반납한 뒤 finishLeased 로 남김)
+     *
+     * @param token 이 실행의 취소 신호 (실행 전에 취소되었으면 작업을 건너뜀)
+     * @param job   작업 실행 (성공 여부 반환)
+     * @return lease 종료 상태 (S: 성공, F: 실패)
+     */
+    public String runLeased(Long scheduleUid, LocalDateTime fireTime, CancellationToken token, BooleanSupplier job) {
+        localRuns.put(new LeaseKey(scheduleUid, fireTime), token);
+        if (token.isCancelled()) {
+            log.info("스케줄 uid={} 대기 중 다음 실행으로 대체되어 건너뜀", scheduleUid);
+            return "F";
+        }
+        return job.getAsBoolean() ? "S" : "F";
+    }
+
+    /**
+     * lease 종료 상태 기록 후 취소 신호 완료 (S: 성공, F: 실패, C: DUP_STOP 중지)
+     * 실행하지 못한 lease 도 heartbeat 로 계속 연장되지 않도록 반드시 호출한다.
+     */
+    public void finishLeased(Long scheduleUid, LocalDateTime fireTime, CancellationToken token, String status) {
+        localRuns.remove(new LeaseKey(scheduleUid, fireTime), token);
+        token.complete();
+        // 실행 전/도중 DUP_STOP 으로 중지되었으나 성공으로 끝나지 못한 실행만 C (중지 요청 후에 성공한 실행은 S 유지)
+        if (!"S".equals(status) && token.getReason() == CancellationToken.Reason.DUP_STOP) {
+            status = "C";
+        }
+        try {
+            scheduleLeaseMapper.complete(scheduleUid, fireTime, nodeId(), status);
+        } catch (Exception e) {
+            log.error("스케줄 lease 종료 기록 실패 -> uid={}, fireTime={}", scheduleUid, fireTime, e);
+        }
+    }
+
+    /**
+     * DUP_STOP: 동일 스케줄의 다른 실행(다른 노드 포함)에 중지 요청 후, 종료되면 완료되는 future 반환
+     * 대기 중에도 lease 가 연장되도록 이 실행을 먼저 등록하며, dup-stop-wait 이 지나면 종료를 기다리지 않고 완료한다.
+     */
+    public CompletableFuture<Void> stopOthers(Long scheduleUid, String beanName, LocalDateTime fireTime,
+            CancellationToken token) {
+        LeaseKey key = new LeaseKey(scheduleUid, fireTime);
+        localRuns.put(key, token);
+
+        // 같은 노드의 기존 실행은 바로 취소 신호
+        localRuns.keySet().stream()
+                .filter(other -> other.scheduleUid().equals(scheduleUid) && !other.equals(key))
+                .forEach(this::cancel);
+
+        int requested = scheduleLeaseMapper.requestCancel(scheduleUid, fireTime);
+        if (requested == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        for (int i = 0; i < requested; i++) {
+            scheduleMetrics.recordOverlap(beanName);
+            scheduleMetrics.recordDupStopInterrupt(beanName);
+        }
+        log.info("스케줄 uid={} 이미 실행 중. DUP_STOP=true, 기존 실행 중지 요청 후 재실행.", scheduleUid);
+
+        CompletableFuture<Void> stopped = new CompletableFuture<>();
+        long deadline = System.currentTimeMillis() + cluster().getDupStopWait().toMillis();
+        AtomicReference<ScheduledFuture<?>> poll = new AtomicReference<>();
+        poll.set(taskScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                if (System.currentTimeMillis() >= deadline
+                        || scheduleLeaseMapper.countRunningOthers(scheduleUid, fireTime) == 0) {
+                    stopped.complete(null);
+                }
+            } catch (Exception e) {
+                log.error("스케줄 기존 실행 종료 확인 실패 -> uid={}, fireTime={}", scheduleUid, fireTime, e);
+                stopped.complete(null);
+            }
+            if (stopped.isDone() && poll.get() != null) {
+                poll.get().cancel(false);
+            }
+        }, Instant.now().plusMillis(DUP_STOP_POLL_MILLIS), Duration.ofMillis(DUP_STOP_POLL_MILLIS)));
+        if (stopped.isDone()) {
+            poll.get().cancel(false);
+        }
+        return stopped;
+    }
+
+    /**
+     * 만료된 lease 를 이 노드로 인계 (인계한 lease 는 호출자가 다시 실행)
+     */
+    @Transactional
+    public List<ScheduleLease> takeOverExpired() {
+        List<ScheduleLease> expired = scheduleLeaseMapper.findExpiredForUpdate(TAKEOVER_BATCH_SIZE);
+        for (ScheduleLease lease : expired) {
+            scheduleLeaseMapper.takeOver(lease.getScheduleUid(), lease.getFireTime(), nodeId(), leaseSeconds());
+            log.warn("만료된 스케줄 lease 인계 -> uid={}, fireTime={}, from={}", lease.getScheduleUid(),
+                    lease.getFireTime(), lease.getOwner());
+        }
+        return expired;
+    }
+
+    /**
+     * 로컬 실행 중 lease 연장
+     */
+    @Scheduled(fixedDelayString = "${app.scheduler.cluster.heartbeat-interval:15s}")
+    public void heartbeat() {
+        if (!isClusterEnabled() || localRuns.isEmpty()) {
+            return;
+        }
+        try {
+            List<ScheduleLease> leases = localRuns.keySet().stream()
+                    .map(key -> ScheduleLease.builder()
+                            .scheduleUid(key.scheduleUid())
+                            .fireTime(key.fireTime())
+                            .build())
+                    .toList();
+            if (!leases.isEmpty()) {
+                scheduleLeaseMapper.renew(nodeId(), leases, leaseSeconds());
+            }
+        } catch (Exception e) {
+            log.error("스케줄 lease 연장 실패 -> node={}", nodeId(), e);
+        }
+    }
+
+    /**
+     * 다른 노드의 DUP_STOP 중지 요청 확인
+     */
+    @Scheduled(fixedDelayString = "${app.scheduler.cluster.cancel-poll-interval:1s}")
+    public void pollCancelRequests() {
+        if (!isClusterEnabled() || localRuns.isEmpty()) {
+            return;
+        }
+        try {
+            for (ScheduleLease lease : scheduleLeaseMapper.findCancelRequested(nodeId())) {
+                cancel(new LeaseKey(lease.getScheduleUid(), lease.getFireTime()));
+            }
+        } catch (Exception e) {
+            log.error("스케줄 중지 요청 조회 실패 -> node={}", nodeId(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 종료 lease 정리
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT5M")
+    public void purgeFinished() {
+        if (!isClusterEnabled()) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minus(cluster().getLeaseRetention());
+        int deleted = scheduleLeaseMapper.deleteFinishedBefore(before);
+        if (deleted > 0) {
+            log.info("종료된 스케줄 lease {}건 삭제", deleted);
+        }
+    }
+
+    private void cancel(LeaseKey key) {
+        CancellationToken token = localRuns.get(key);
+        if (token != null && !token.isCancelled()) {
+            log.info("스케줄 실행 중지 -> uid={}, fireTime={}", key.scheduleUid(), key.fireTime());
+            token.cancel(CancellationToken.Reason.DUP_STOP);
+        }
+    }
+
+    private SchedulerProperties.Cluster cluster() {
+        return schedulerProperties.getCluster();
+    }
+
+    private String nodeId() {
+        return cluster().getNodeId();
+    }
+
+    private long leaseSeconds() {
+        return cluster().getLeaseTimeout().toSeconds();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import com.example.springrest.domain.scheduler.repository.ScheduleLogMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 실행 로그 비동기 writer
+ * 작업 스레드는 시작/종료 이벤트를 고정 크기 버퍼에 넣고 바로 반환하며,
+ * 단일 writer 스레드가 모아서 multi-row INSERT / UPDATE ... FROM VALUES 로 기록한다.
+ * 같은 배치 안에서 시작과 종료가 모두 들어온 실행(짧은 작업)은 종료 상태로 한 번만 INSERT 한다.
+ */
+@Slf4j
+@Component
+public class ScheduleLogWriter {
+
+    private final ScheduleLogMapper scheduleLogMapper;
+    private final SchedulerProperties.LogWriter properties;
+    private final BlockingQueue<LogEvent> buffer;
+    private final Counter dropped;
+
+    // 시작 로그가 기록된 실행 -> 로그 UID (writer 스레드 전용)
+    private final Map<ScheduleLog, Long> startedUids = new IdentityHashMap<>();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    private record LogEvent(ScheduleLog source, ScheduleLog snapshot, boolean end) {
+    }
+
+    public ScheduleLogWriter(ScheduleLogMapper scheduleLogMapper, SchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        this.scheduleLogMapper = scheduleLogMapper;
+        this.properties = schedulerProperties.getLogWriter();
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+
+        Gauge.builder("scheduler.log.buffer.size", buffer, BlockingQueue::size)
+                .description("기록 대기 중인 스케줄 로그 이벤트 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("scheduler.log.dropped")
+                .description("버퍼 초과로 버려진 스케줄 로그 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        running = true;
+        writerThread = Thread.ofPlatform().name("schedule-log-writer").daemon(true).start(this::runLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(properties.getFlushInterval().toMillis() * 4 + 5000);
+    }
+
+    /**
+     * 실행 시작 기록 (시작 시각 설정)
+     */
+    public void start(ScheduleLog scheduleLog) {
+        scheduleLog.setStartTime(LocalDateTime.now());
+        enqueue(new LogEvent(scheduleLog, copy(scheduleLog), false));
+    }
+
+    /**
+     * 실행 종료 기록 (종료 시각 설정, result/message 는 호출 시점 값)
+     */
+    public void finish(ScheduleLog scheduleLog) {
+        scheduleLog.setEndTime(LocalDateTime.now());
+        enqueue(new LogEvent(scheduleLog, copy(scheduleLog), true));
+    }
+
+    private void enqueue(LogEvent event) {
+        if (!running) {
+            // 종료 중에는 직접 기록
+            flush(new ArrayList<>(List.of(event)));
+            return;
+        }
+        try {
+            if (!buffer.offer(event, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+                log.warn("스케줄 로그 버퍼 초과로 로그 유실 -> bean={}, end={}", event.snapshot().getBeanName(),
+                        event.end());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    private void runLoop() {
+        int batchSize = properties.getBatchSize();
+        long lingerNanos = properties.getFlushInterval().toNanos();
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogEvent first = buffer.poll(lingerNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // flushInterval 동안 더 모아서 시작/종료를 한 배치로 합침
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize && running) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    LogEvent next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                buffer.drainTo(batch, batchSize - batch.size());
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    buffer.drainTo(batch);
+                    flush(batch);
+                }
+            } catch (Exception e) {
+                log.error("스케줄 로그 기록 중 오류 발생", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private synchronized void flush(List<LogEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<ScheduleLog> inserts = new ArrayList<>();
+        List<ScheduleLog> updates = new ArrayList<>();
+        Map<ScheduleLog, ScheduleLog> insertedStarts = new IdentityHashMap<>(); // source -> INSERT 할 snapshot
+        Map<ScheduleLog, Boolean> mergedEnds = new IdentityHashMap<>();
+
+        for (LogEvent event : batch) {
+            ScheduleLog source = event.source();
+            if (!event.end()) {
+                insertedStarts.put(source, event.snapshot());
+                inserts.add(event.snapshot());
+                continue;
+            }
+
+            ScheduleLog pendingStart = insertedStarts.get(source);
+            Long uid = startedUids.remove(source);
+            if (pendingStart != null) {
+                // 같은 배치의 시작 로그에 종료 상태를 합쳐 한 번에 INSERT
+                pendingStart.setResult(event.snapshot().getResult());
+                pendingStart.setMessage(event.snapshot().getMessage());
+                pendingStart.setEndTime(event.snapshot().getEndTime());
+                mergedEnds.put(source, Boolean.TRUE);
+            } else if (uid != null) {
+                event.snapshot().setUid(uid);
+                updates.add(event.snapshot());
+            } else {
+                // 시작 로그가 유실된 경우 종료 상태로 등록
+                inserts.add(event.snapshot());
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            try {
+                scheduleLogMapper.insertLogs(inserts);
+                insertedStarts.forEach((source, snapshot) -> {
+                    source.setUid(snapshot.getUid());
+                    if (!mergedEnds.containsKey(source) && snapshot.getUid() != null) {
+                        startedUids.put(source, snapshot.getUid());
+                    }
+                });
+            } catch (Exception e) {
+                log.error("스케줄 로그 {}건 등록 실패", inserts.size(), e);
+            }
+        }
+        if (!updates.isEmpty()) {
+            try {
+                scheduleLogMapper.updateLogs(updates);
+            } catch (Exception e) {
+                log.error("스케줄 로그 {}건 종료 처리 실패", updates.size(), e);
+            }
+        }
+    }
+
+    private static ScheduleLog copy(ScheduleLog source) {
+        return ScheduleLog.builder()
+                .corpCode(source.getCorpCode())
+                .beanName(source.getBeanName())
+                .method(source.getMethod())
+                .result(source.getResult())
+                .message(source.getMessage())
+                .startTime(source.getStartTime())
+                .endTime(source.getEndTime())
+                .worker(source.getWorker())
+                .runId(source.getRunId())
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import com.example.springrest.domain.scheduler.model.dto.ScheduleStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동적 스케줄 작업 Micrometer 지표 (bean 태그)
+ * scheduler.jobs.duration / runs / success / failure / queue.wait / overlaps / dupstop.interrupts / timeouts /
+ * fire.lag / missed.fires 를 기록하며 actuator metrics 엔드포인트로 조회한다.
+ */
+@Component
+public class ScheduleMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration missedFireThreshold;
+    private final Map<String, BeanMeters> beanMeters = new ConcurrentHashMap<>();
+
+    private record BeanMeters(Timer duration, Counter runs, Counter success, Counter failure, Timer queueWait,
+            Counter overlaps, Counter dupStopInterrupts, Counter timeouts, Timer fireLag, Counter missedFires) {
+    }
+
+    public ScheduleMetrics(MeterRegistry meterRegistry, SchedulerProperties schedulerProperties) {
+        this.meterRegistry = meterRegistry;
+        this.missedFireThreshold = schedulerProperties.getMetrics().getMissedFireThreshold();
+    }
+
+    /**
+     * 트리거 발생 (예정 시각 대비 지연, 임계값 초과 시 누락 집계)
+     */
+    public void recordFire(String beanName, LocalDateTime scheduledTime, LocalDateTime actualTime) {
+        if (scheduledTime == null) {
+            return;
+        }
+        Duration lag = Duration.between(scheduledTime, actualTime);
+        if (lag.isNegative()) {
+            lag = Duration.ZERO;
+        }
+        BeanMeters meters = meters(beanName);
+        meters.fireLag().record(lag);
+        if (lag.compareTo(missedFireThreshold) > 0) {
+            meters.missedFires().increment();
+        }
+    }
+
+    public void recordQueueWait(String beanName, long waitNanos) {
+        meters(beanName).queueWait().record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStart(String beanName) {
+        meters(beanName).runs().increment();
+    }
+
+    public void recordFinish(String beanName, long durationNanos, boolean success) {
+        BeanMeters meters = meters(beanName);
+        meters.duration().record(durationNanos, TimeUnit.NANOSECONDS);
+        (success ? meters.success() : meters.failure()).increment();
+    }
+
+    public void recordTimeout(String beanName) {
+        meters(beanName).timeouts().increment();
+    }
+
+    public void recordOverlap(String beanName) {
+        meters(beanName).overlaps().increment();
+    }
+
+    public void recordDupStopInterrupt(String beanName) {
+        meters(beanName).dupStopInterrupts().increment();
+    }
+
+    /**
+     * 빈 단위 통계 요약
+     */
+    public ScheduleStatsResponse stats(Long uid, String beanName) {
+        BeanMeters meters = meters(beanName);
+        HistogramSnapshot duration = meters.duration().takeSnapshot();
+        return ScheduleStatsResponse.builder()
+                .uid(uid)
+                .beanName(beanName)
+                .runs((long) meters.runs().count())
+                .successes((long) meters.success().count())
+                .failures((long) meters.failure().count())
+                .meanDurationMs(duration.mean(TimeUnit.MILLISECONDS))
+                .maxDurationMs(duration.max(TimeUnit.MILLISECONDS))
+                .p95DurationMs(percentile(duration, 0.95))
+                .p99DurationMs(percentile(duration, 0.99))
+                .meanQueueWaitMs(meters.queueWait().mean(TimeUnit.MILLISECONDS))
+                .overlaps((long) meters.overlaps().count())
+                .dupStopInterrupts((long) meters.dupStopInterrupts().count())
+                .timeouts((long) meters.timeouts().count())
+                .missedFires((long) meters.missedFires().count())
+                .maxFireLagMs(meters.fireLag().max(TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private BeanMeters meters(String beanName) {
+        String bean = beanName != null ? beanName : "unknown";
+        return beanMeters.computeIfAbsent(bean, name -> new BeanMeters(
+                Timer.builder("scheduler.jobs.duration")
+                        .description("스케줄 작업 실행 시간")
+                        .tag("bean", name)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                counter("scheduler.jobs.runs", "스케줄 작업 실행 시작 수", name),
+                counter("scheduler.jobs.success", "스케줄 작업 성공 수", name),
+                counter("scheduler.jobs.failure", "스케줄 작업 실패 수", name),
+                Timer.builder("scheduler.jobs.queue.wait")
+                        .description("트리거 발생부터 작업 시작까지 대기 시간")
+                        .tag("bean", name)
+                        .register(meterRegistry),
+                counter("scheduler.jobs.overlaps", "이전 실행 중 다시 실행된 수", name),
+                counter("scheduler.jobs.dupstop.interrupts", "DUP_STOP 으로 중지시킨 기존 실행 수", name),
+                counter("scheduler.jobs.timeouts", "실행 제한 시간을 넘긴 실행 수", name),
+                Timer.builder("scheduler.jobs.fire.lag")
+                        .description("cron 예정 시각 대비 실제 트리거 지연")
+                        .tag("bean", name)
+                        .register(meterRegistry),
+                counter("scheduler.jobs.missed.fires", "예정 시각보다 임계값 이상 늦게 실행된 수", name)));
+    }
+
+    private Counter counter(String name, String description, String beanName) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("bean", beanName)
+                .register(meterRegistry);
+    }
+}
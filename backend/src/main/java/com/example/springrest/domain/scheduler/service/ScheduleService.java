@@ -1,26 +1,42 @@
 package com.example.springrest.domain.scheduler.service;
 
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import com.example.springrest.domain.scheduler.job.CancellationToken;
+import com.example.springrest.domain.scheduler.model.dto.ScheduleEvent;
 import com.example.springrest.domain.scheduler.model.dto.ScheduleLogResponse;
+import com.example.springrest.domain.scheduler.model.dto.ScheduleLogSearchDto;
 import com.example.springrest.domain.scheduler.model.dto.ScheduleRequest;
 import com.example.springrest.domain.scheduler.model.dto.ScheduleResponse;
+import com.example.springrest.domain.scheduler.model.dto.ScheduleStatsResponse;
 import com.example.springrest.domain.scheduler.model.entity.Schedule;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLease;
 import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import com.example.springrest.domain.scheduler.repository.ScheduleDependencyMapper;
 import com.example.springrest.domain.scheduler.repository.ScheduleLogMapper;
 import com.example.springrest.domain.scheduler.repository.ScheduleMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
-import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import java.util.stream.Collectors;
 
@@ -29,22 +45,41 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ScheduleService {
 
+    private static final int DEFAULT_LOG_PAGE_SIZE = 50;
+    private static final int MAX_LOG_PAGE_SIZE = 500;
+
     private final ScheduleMapper scheduleMapper;
     private final ScheduleLogMapper scheduleLogMapper;
-    private final ApplicationContext applicationContext;
+    private final ScheduleDependencyMapper scheduleDependencyMapper;
+    private final ScheduleJobRegistry scheduleJobRegistry;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final ScheduleJobExecutor scheduleJobExecutor;
+    private final ScheduleLogWriter scheduleLogWriter;
+    private final ScheduleMetrics scheduleMetrics;
+    private final ScheduleTriggerEngine scheduleTriggerEngine;
+    private final ScheduleEventBroadcaster scheduleEventBroadcaster;
     private final ThreadPoolTaskScheduler taskScheduler;
+    private final SchedulerProperties schedulerProperties;
+
+    // 이 노드에 등록된 스케줄 트리거 (다중 노드 모드에서는 lease 로 실행 노드를 선출)
+    private final Map<Long, ScheduleTriggerEngine.TriggerHandle> scheduledTasks = new ConcurrentHashMap<>();
+
+    // 등록된(USED=true) 스케줄 정의 캐시 (CRUD 시 갱신, 트리거마다 DB 조회하지 않음)
+    private final Map<Long, Schedule> scheduleCache = new ConcurrentHashMap<>();
 
-    // 실행 중인 스케줄 작업을 보관하는 맵 (단일 인스턴스 기준)
-    private final Map<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    // 스케줄 UID별 최근 실행의 취소 신호 (DUP_STOP=true 시 기존 실행 중지 및 후속 실행 연결용)
+    private final Map<Long, CancellationToken> runningTokens = new ConcurrentHashMap<>();
 
-    // 스케줄 UID별 현재 실행 중인 스레드를 추적하는 맵 (DUP_STOP=true 시 기존 실행 중지용)
-    private final Map<Long, Thread> runningScheduleThreads = new ConcurrentHashMap<>();
+    // 스케줄 의존 그래프 (CRUD/변경 알림 시 교체)
+    private volatile ScheduleGraph scheduleGraph = ScheduleGraph.empty();
 
     @PostConstruct
     public void init() {
         log.info("데이터베이스에서 동적 스케줄러를 시작합니다...");
+        reloadGraph();
         List<Schedule> activeSchedules = scheduleMapper.findActiveSchedules();
         for (Schedule schedule : activeSchedules) {
+            scheduleCache.put(schedule.getUid(), schedule);
             registerSchedule(schedule);
         }
         log.info("활성 스케줄 {}개를 로드했습니다.", activeSchedules.size());
@@ -53,8 +88,10 @@ public class ScheduleService {
     // --- CRUD ---
 
     @Transactional(readOnly = true)
-    public List<ScheduleLogResponse> getAllScheduleLogs() {
-        return scheduleLogMapper.findAllLogs().stream()
+    public List<ScheduleLogResponse> getScheduleLogs(ScheduleLogSearchDto search) {
+        int size = search.getSize() == null ? DEFAULT_LOG_PAGE_SIZE : search.getSize();
+        search.setSize(Math.max(1, Math.min(size, MAX_LOG_PAGE_SIZE)));
+        return scheduleLogMapper.findLogs(search).stream()
                 .map(ScheduleLogResponse::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -62,27 +99,55 @@ public class ScheduleService {
     @Transactional(readOnly = true)
     public List<ScheduleResponse> getAllSchedules() {
         return scheduleMapper.findAll().stream()
-                .map(ScheduleResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public ScheduleResponse getSchedule(Long uid) {
         return scheduleMapper.findById(uid)
-                .map(ScheduleResponse::fromEntity)
+                .map(this::toResponse)
                 .orElseThrow(() -> new RuntimeException("Schedule not found with uid: " + uid));
     }
 
+    private ScheduleResponse toResponse(Schedule schedule) {
+        ScheduleResponse response = ScheduleResponse.fromEntity(schedule);
+        response.setParentUids(scheduleGraph.parents(schedule.getUid()));
+        return response;
+    }
+
+    /**
+     * 스케줄 실행 통계 (이 노드의 Micrometer 지표 요약)
+     */
+    @Transactional(readOnly = true)
+    public ScheduleStatsResponse getScheduleStats(Long uid) {
+        Schedule schedule = scheduleMapper.findById(uid)
+                .orElseThrow(() -> new RuntimeException("Schedule not found with uid: " + uid));
+        return scheduleMetrics.stats(uid, schedule.getBeanName());
+    }
+
+    /**
+     * 스케줄 실행 이벤트 구독 (START / PROGRESS / END, 이 노드에서 실행되는 것만 전달)
+     */
+    public SseEmitter subscribeEvents(Long uid) {
+        scheduleMapper.findById(uid)
+                .orElseThrow(() -> new RuntimeException("Schedule not found with uid: " + uid));
+        return scheduleEventBroadcaster.subscribe(uid);
+    }
+
     @Transactional
     public ScheduleResponse createSchedule(ScheduleRequest request) {
         Schedule entity = request.toEntity();
         scheduleMapper.insert(entity);
+        saveParents(entity.getUid(), request.getParentUids());
 
         // 사용 여부가 1이면 스케줄 즉시 등록
         if (Boolean.TRUE.equals(entity.getUsed())) {
+            scheduleCache.put(entity.getUid(), entity);
             registerSchedule(entity);
         }
-        return ScheduleResponse.fromEntity(entity);
+        publishChange(entity.getUid());
+        return toResponse(entity);
     }
 
     @Transactional
@@ -94,43 +159,180 @@ public class ScheduleService {
         Schedule updated = request.toEntity();
         updated.setUid(uid);
         scheduleMapper.update(updated);
+        saveParents(uid, request.getParentUids());
 
         // 기존 스케줄 취소
         cancelSchedule(uid);
+        scheduleCache.remove(uid);
 
         // 변경 후 다시 조회해서 최신 상태로 등록
         Schedule refreshed = scheduleMapper.findById(uid).orElse(updated);
         if (Boolean.TRUE.equals(refreshed.getUsed())) {
+            scheduleCache.put(uid, refreshed);
             registerSchedule(refreshed);
         }
+        publishChange(uid);
 
-        return ScheduleResponse.fromEntity(refreshed);
+        return toResponse(refreshed);
     }
 
     @Transactional
     public void deleteSchedule(Long uid) {
         cancelSchedule(uid);
+        scheduleCache.remove(uid);
         scheduleMapper.delete(uid);
+        ScheduleGraph previous = scheduleGraph;
+        if (previous.hasParents(uid) || previous.hasChildren(uid)) {
+            scheduleDependencyMapper.deleteByScheduleOrParent(uid);
+            reloadGraph();
+            // 선행이 없어진 후속 스케줄은 cron 트리거로 전환
+            applyParentChanges(previous, previous.children(uid));
+        }
+        publishChange(uid);
         log.info("스케줄 삭제 완료 -> uid={}", uid);
     }
 
+    /**
+     * 선행 스케줄 교체 (순환 의존이면 IllegalArgumentException)
+     */
+    private void saveParents(Long uid, List<Long> parentUids) {
+        if (parentUids == null) {
+            return;
+        }
+        List<Long> parents = parentUids.stream().distinct().toList();
+        for (Long parent : parents) {
+            if (scheduleMapper.findById(parent).isEmpty()) {
+                throw new IllegalArgumentException("선행 스케줄이 존재하지 않습니다: " + parent);
+            }
+        }
+        if (scheduleGraph.withParents(uid, parents).hasCycleThrough(uid)) {
+            throw new IllegalArgumentException("순환 의존 관계는 등록할 수 없습니다: " + uid + " <- " + parents);
+        }
+        scheduleDependencyMapper.deleteBySchedule(uid);
+        if (!parents.isEmpty()) {
+            scheduleDependencyMapper.insertParents(uid, parents);
+        }
+        reloadGraph();
+    }
+
+    private void reloadGraph() {
+        scheduleGraph = ScheduleGraph.of(scheduleDependencyMapper.findAll());
+    }
+
+    /**
+     * 선행 스케줄이 바뀐 스케줄의 트리거 재등록 (선행이 생기면 cron 해제, 없어지면 cron 등록)
+     */
+    private void applyParentChanges(ScheduleGraph previous, Collection<Long> uids) {
+        for (Long uid : uids) {
+            if (previous.sameParents(scheduleGraph, uid)) {
+                continue;
+            }
+            cancelSchedule(uid);
+            Schedule schedule = scheduleCache.get(uid);
+            if (schedule != null) {
+                registerSchedule(schedule);
+            }
+        }
+    }
+
+    // --- Cross-node Propagation ---
+
+    /**
+     * 다른 노드에 스케줄 변경 알림 (커밋 시 전달, payload = uid:발행노드)
+     */
+    private void publishChange(Long uid) {
+        SchedulerProperties.Notify notify = schedulerProperties.getNotify();
+        if (notify.isEnabled()) {
+            scheduleMapper.notifyChange(notify.getChannel(), uid + ":" + schedulerProperties.getCluster().getNodeId());
+        }
+    }
+
+    /**
+     * 다른 노드의 변경 알림 반영: 해당 스케줄만 다시 조회하여 트리거 재등록/취소
+     * 스케줄 행 (UPDATE_TIME 미갱신) 이 같아도 선행 스케줄이 바뀌었으면 다시 등록한다.
+     */
+    public synchronized void applyScheduleChange(Long uid) {
+        ScheduleGraph previous = scheduleGraph;
+        reloadGraph();
+        // 삭제된 스케줄의 후속 등 선행 관계만 바뀐 스케줄
+        applyParentChanges(previous, previous.children(uid));
+
+        Schedule latest = scheduleMapper.findById(uid).orElse(null);
+        if (latest != null && latest.equals(scheduleCache.get(uid)) && previous.sameParents(scheduleGraph, uid)) {
+            return;
+        }
+        cancelSchedule(uid);
+        scheduleCache.remove(uid);
+        if (latest != null && Boolean.TRUE.equals(latest.getUsed())) {
+            scheduleCache.put(uid, latest);
+            registerSchedule(latest);
+        }
+        log.info("스케줄 변경 알림 반영 -> uid={}, registered={}", uid, scheduleCache.containsKey(uid));
+    }
+
+    /**
+     * 전체 재동기화 (LISTEN 연결 직후, 끊긴 동안 놓친 알림 보정)
+     */
+    public synchronized void resyncSchedules() {
+        ScheduleGraph previous = scheduleGraph;
+        reloadGraph();
+        Map<Long, Schedule> active = scheduleMapper.findActiveSchedules().stream()
+                .collect(Collectors.toMap(Schedule::getUid, schedule -> schedule));
+        int changed = 0;
+        for (Long uid : List.copyOf(scheduleCache.keySet())) {
+            if (!active.containsKey(uid)) {
+                cancelSchedule(uid);
+                scheduleCache.remove(uid);
+                changed++;
+            }
+        }
+        for (Schedule schedule : active.values()) {
+            if (!schedule.equals(scheduleCache.get(schedule.getUid()))
+                    || !previous.sameParents(scheduleGraph, schedule.getUid())) {
+                cancelSchedule(schedule.getUid());
+                scheduleCache.put(schedule.getUid(), schedule);
+                registerSchedule(schedule);
+                changed++;
+            }
+        }
+        if (changed > 0) {
+            log.info("스케줄 재동기화 -> 변경 {}건", changed);
+        }
+    }
+
     // --- Dynamic Execution Engine ---
 
     /**
      * 특정 빈의 실행 메서드를 스케줄러에 등록합니다.
      */
     private void registerSchedule(Schedule schedule) {
+        if (scheduleGraph.hasParents(schedule.getUid())) {
+            log.info("선행 스케줄 완료 시 실행되는 스케줄 (cron 미등록) -> uid={}, parents={}", schedule.getUid(),
+                    scheduleGraph.parents(schedule.getUid()));
+            return;
+        }
         if (schedule.getBeanName() == null || schedule.getCron() == null) {
             log.warn("빈 이름 또는 크론 표현식 누락으로 스케줄 건너뜀 -> uid={}", schedule.getUid());
             return;
         }
 
-        Runnable task = createRunnableTask(schedule.getUid(), schedule.getBeanName(), schedule.getBeanParam(), "S",
-                "system");
+        // 실행 진입점을 등록 시점에 미리 해석 (트리거마다 빈 조회/메서드 탐색 방지)
+        try {
+            scheduleJobRegistry.get(schedule.getBeanName());
+        } catch (IllegalArgumentException e) {
+            log.warn("스케줄 빈 해석 실패 -> uid={}: {}", schedule.getUid(), e.getMessage());
+        }
 
         try {
-            ScheduledFuture<?> future = taskScheduler.schedule(task, new CronTrigger(schedule.getCron()));
-            scheduledTasks.put(schedule.getUid(), future);
+            // 트리거 스레드에서는 예정 실행시각만 확정하고 작업 본문은 실행기로 넘김
+            ScheduleTriggerEngine.TriggerHandle handle = scheduleTriggerEngine.schedule(schedule.getCron(),
+                    fireTime -> {
+                        scheduleMetrics.recordFire(schedule.getBeanName(), fireTime, LocalDateTime.now());
+                        scheduleJobExecutor.dispatch(schedule.getBeanName(), createRunnableTask(schedule.getUid(),
+                                schedule.getBeanName(), schedule.getBeanParam(), "S", "system",
+                                () -> scheduleCache.get(schedule.getUid()), () -> fireTime));
+                    });
+            scheduledTasks.put(schedule.getUid(), handle);
             log.info("동적 스케줄 등록 완료 -> uid={}, bean={}, cron={}", schedule.getUid(),
                     schedule.getBeanName(), schedule.getCron());
         } catch (Exception e) {
@@ -142,9 +344,9 @@ public class ScheduleService {
      * 실행 중인 스케줄을 영구 취소합니다.
      */
     private void cancelSchedule(Long uid) {
-        ScheduledFuture<?> future = scheduledTasks.remove(uid);
-        if (future != null) {
-            future.cancel(false); // 실행 중인 스레드를 강제로 인터럽트 하지 않음
+        ScheduleTriggerEngine.TriggerHandle handle = scheduledTasks.remove(uid);
+        if (handle != null) {
+            handle.cancel();
             log.info("실행 중인 스케줄 취소 완료 -> uid={}", uid);
         }
     }
@@ -157,111 +359,98 @@ public class ScheduleService {
                 .orElseThrow(() -> new RuntimeException("Schedule not found: " + uid));
 
         log.info("스케줄 수동 실행 요청 -> uid={}", uid);
+        LocalDateTime requestTime = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
         Runnable task = createRunnableTask(schedule.getUid(), schedule.getBeanName(), schedule.getBeanParam(), "D",
-                "admin");
+                "admin", () -> schedule, () -> requestTime);
+
+        // 작업 실행기에서 즉시 실행
+        if (!scheduleJobExecutor.dispatch(schedule.getBeanName(), task)) {
+            throw new IllegalStateException("스케줄 작업 대기열이 가득 찼습니다: " + uid);
+        }
+    }
 
-        // 별도 스레드풀에서 즉시 실행
-        taskScheduler.execute(task);
+    /**
+     * 다중 노드 모드: heartbeat 가 끊긴 노드의 실행을 인계받아 다시 실행
+     */
+    @Scheduled(fixedDelayString = "${app.scheduler.cluster.heartbeat-interval:15s}",
+            initialDelayString = "${app.scheduler.cluster.heartbeat-interval:15s}")
+    public void takeOverExpiredLeases() {
+        if (!scheduleLeaseService.isClusterEnabled()) {
+            return;
+        }
+        try {
+            for (ScheduleLease lease : scheduleLeaseService.takeOverExpired()) {
+                Schedule schedule = scheduleMapper.findById(lease.getScheduleUid()).orElse(null);
+                if (schedule == null) {
+                    scheduleLeaseService.finishLeased(lease.getScheduleUid(), lease.getFireTime(),
+                            new CancellationToken(), "F");
+                    continue;
+                }
+                // 실행기에서 건너뛰면 (대기열 초과/동시 실행 제한) lease 가 연장되지 않으므로 다음 heartbeat 에서 다시 인계 대상이 된다
+                CancellationToken token = new CancellationToken();
+                submitLeased(schedule.getUid(), schedule.getBeanName(), lease.getFireTime(), token,
+                        () -> executeWithDependents(schedule.getUid(), schedule.getBeanName(),
+                                schedule.getBeanParam(), "S", "system", token, schedule.getTimeoutSec()), false);
+            }
+        } catch (Exception e) {
+            log.error("만료된 스케줄 lease 인계 중 오류 발생", e);
+        }
     }
 
     /**
-     * 실행 시점에 DB를 조회하여 DUP_STOP=true이면 기존 실행 중지 후 새로 실행하는 Runnable 생성
+     * 실행 시점의 스케줄 정의를 확인하여 DUP_STOP=true이면 기존 실행에 취소 신호를 보내고 그 뒤에 새로 실행하는 Runnable 생성
+     * 다중 노드 모드에서는 예정 실행시각으로 lease 를 점유한 노드만 실행한다.
+     * 진입 처리는 dispatch 로 (빈별 동시 실행 제한 없이) 실행하고, 작업 본문만 submit 으로 실행 자리를 받아 실행한다.
+     *
+     * @param definition 실행 시점의 스케줄 정의 (트리거 실행은 로컬 캐시, 수동 실행은 요청 시 조회한 값)
      */
-    private Runnable createRunnableTask(Long uid, String beanName, String beanParam, String methodStr, String worker) {
+    private Runnable createRunnableTask(Long uid, String beanName, String beanParam, String methodStr, String worker,
+            Supplier<Schedule> definition, Supplier<LocalDateTime> fireTime) {
         return () -> {
             try {
-                // 매 실행마다 DB 상태 확인
-                Schedule currentStatus = scheduleMapper.findById(uid).orElse(null);
+                // 매 실행마다 스케줄 상태 확인 (삭제/사용 중지 시 캐시에서 제거됨)
+                Schedule currentStatus = definition.get();
                 if (currentStatus == null) {
-                    log.info("스케줄 uid={} 삭제됨. 스케줄 취소 중...", uid);
+                    log.info("스케줄 uid={} 삭제 또는 사용 중지됨. 스케줄 취소 중...", uid);
                     cancelSchedule(uid);
                     return;
                 }
-
-                // DUP_STOP=true: 이미 실행 중인 동일 스케줄이 있으면 중지 후 새로 실행, 없으면 그냥 실행
-                // DUP_STOP=false: 무조건 실행
-                if (Boolean.TRUE.equals(currentStatus.getDupStop())) {
-                    Thread runningThread = runningScheduleThreads.get(uid);
-                    if (runningThread != null && runningThread.isAlive()) {
-                        log.info("스케줄 uid={} 이미 실행 중. DUP_STOP=true, 기존 실행 중지 후 재실행.", uid);
-                        runningThread.interrupt();
-                        try {
-                            runningThread.join(5000); // 최대 5초 대기
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
+                boolean dupStop = Boolean.TRUE.equals(currentStatus.getDupStop());
+                Integer timeoutSec = currentStatus.getTimeoutSec();
+                CancellationToken token = new CancellationToken();
+
+                if (scheduleLeaseService.isClusterEnabled()) {
+                    LocalDateTime leaseTime = fireTime.get();
+                    Runnable claimAndRun = () -> runClustered(uid, beanName, beanParam, methodStr, worker, leaseTime,
+                            dupStop, token, timeoutSec);
+                    Duration claimDelay = scheduleLeaseService.claimDelay();
+                    if (claimDelay.isZero()) {
+                        claimAndRun.run();
+                    } else {
+                        // 점유 전 대기는 스레드를 재우지 않고 지연 접수 (접수 실패 시 점유하지 않았으므로 다른 노드가 실행)
+                        taskScheduler.schedule(() -> scheduleJobExecutor.dispatch(beanName, claimAndRun),
+                                Instant.now().plus(claimDelay));
                     }
+                    return;
                 }
 
-                // 현재 스레드를 실행 중 스레드로 등록
-                runningScheduleThreads.put(uid, Thread.currentThread());
-
-                ScheduleLog scheduleLog = ScheduleLog.builder()
-                        .corpCode(null)
-                        .beanName(beanName)
-                        .method(methodStr)
-                        .result("I")
-                        .worker(worker)
-                        .build();
-
-                try {
-                    scheduleLogMapper.insertLog(scheduleLog);
-                } catch (Exception logEx) {
-                    log.error("스케줄 시작 로그 저장 실패", logEx);
-                }
-
-                try {
-                    log.info("동적 작업 실행 시작 -> uid={}, bean={}", uid, beanName);
-                    Object bean = applicationContext.getBean(beanName);
-
-                    // 실행할 메서드를 리플렉션으로 탐색
-                    Method method = findExecuteMethod(bean);
-                    if (method != null) {
-                        Class<?>[] paramTypes = method.getParameterTypes();
-                        if (paramTypes.length == 2) {
-                            // execute(String beanParam, ScheduleLog scheduleLog)
-                            method.invoke(bean, beanParam, scheduleLog);
-                        } else if (paramTypes.length == 1) {
-                            // execute(String beanParam)
-                            method.invoke(bean, beanParam);
-                        } else {
-                            // execute()
-                            method.invoke(bean);
-                        }
-                    } else {
-                        throw new RuntimeException("스케줄 빈(" + beanName + ")에서 'execute' 메서드를 찾을 수 없습니다.");
-                    }
-                    log.info("스케줄 동적 작업 완료 -> uid={}, bean={}", uid, beanName);
-
-                    if (scheduleLog.getUid() != null) {
-                        try {
-                            // Job에서 result를 설정하지 않았으면(여전히 "I") 기본값 "S" 설정
-                            if ("I".equals(scheduleLog.getResult())) {
-                                scheduleLog.setResult("S");
-                                scheduleLog.setMessage("Success");
-                            }
-                            scheduleLogMapper.updateLog(scheduleLog);
-                        } catch (Exception ignore) {
-                        }
-                    }
-                } catch (Exception ex) {
-                    log.error("스케줄 작업 실행 중 오류 발생 -> uid={}, bean={}", uid, beanName, ex);
-                    if (scheduleLog.getUid() != null) {
-                        try {
-                            scheduleLog.setResult("F");
-                            String errMsg = ex.getMessage();
-                            if (ex.getCause() != null) {
-                                errMsg = ex.getCause().getMessage();
-                            }
-                            scheduleLog.setMessage(errMsg != null ? errMsg.substring(0, Math.min(errMsg.length(), 500))
-                                    : "Unknown Error");
-                            scheduleLogMapper.updateLog(scheduleLog);
-                        } catch (Exception ignore) {
-                        }
+                // DUP_STOP=true: 이전 실행이 남아 있으면 취소 신호만 보내고, 새 실행은 이전 실행이 끝난 뒤 실행기에 다시 접수
+                //                (기다리는 동안 스레드를 점유하지 않음)
+                // DUP_STOP=false: 무조건 실행
+                CancellationToken previous = runningTokens.put(uid, token);
+                if (previous != null && !previous.isDone()) {
+                    scheduleMetrics.recordOverlap(beanName);
+                    if (dupStop) {
+                        log.info("스케줄 uid={} 이미 실행 중. DUP_STOP=true, 기존 실행 중지 후 재실행.", uid);
+                        scheduleMetrics.recordDupStopInterrupt(beanName);
+                        previous.cancel(CancellationToken.Reason.DUP_STOP);
+                        // 이전 실행의 취소 신호는 실행 자리를 반납한 뒤 완료되므로 동시 실행 제한 1 이어도 이어서 실행된다
+                        previous.completion().whenComplete((ignored, error) -> submitLocal(uid, beanName, beanParam,
+                                methodStr, worker, token, timeoutSec));
+                        return;
                     }
-                } finally {
-                    runningScheduleThreads.remove(uid, Thread.currentThread());
                 }
+                submitLocal(uid, beanName, beanParam, methodStr, worker, token, timeoutSec);
 
             } catch (Exception e) {
                 log.error("스케줄 작업 진입 중 오류 발생 -> uid={}, bean={}", uid, beanName, e);
@@ -269,22 +458,242 @@ public class ScheduleService {
         };
     }
 
-    private Method findExecuteMethod(Object bean) {
-        Method[] methods = bean.getClass().getMethods();
-        Method fallback = null;
-        for (Method m : methods) {
-            if ("execute".equals(m.getName())) {
-                Class<?>[] paramTypes = m.getParameterTypes();
-                // (String, ScheduleLog) 시그니처 우선
-                if (paramTypes.length == 2 && paramTypes[0] == String.class && paramTypes[1] == ScheduleLog.class) {
-                    return m;
-                }
-                // (String) 또는 () 시그니처는 fallback
-                if (paramTypes.length == 0 || (paramTypes.length == 1 && paramTypes[0] == String.class)) {
-                    fallback = m;
-                }
+    /**
+     * 다중 노드 모드: lease 점유 후 실행
+     * DUP_STOP=true 이면 다른 실행에 중지 요청만 보내고, 새 실행은 기존 실행이 끝난 뒤 실행기에 다시 접수한다.
+     */
+    private void runClustered(Long uid, String beanName, String beanParam, String methodStr, String worker,
+            LocalDateTime leaseTime, boolean dupStop, CancellationToken token, Integer timeoutSec) {
+        if (!scheduleLeaseService.claim(uid, leaseTime)) {
+            log.debug("스케줄 uid={} fireTime={} 다른 노드에서 실행", uid, leaseTime);
+            return;
+        }
+        BooleanSupplier job = () -> executeWithDependents(uid, beanName, beanParam, methodStr, worker, token,
+                timeoutSec);
+        if (!dupStop) {
+            submitLeased(uid, beanName, leaseTime, token, job, true);
+            return;
+        }
+        scheduleLeaseService.stopOthers(uid, beanName, leaseTime, token).whenComplete((ignored, error) ->
+                submitLeased(uid, beanName, leaseTime, token, job, true));
+    }
+
+    /**
+     * 점유한 lease 의 작업을 실행기에 접수하고, 빈별 실행 자리를 반납한 뒤 lease 종료 기록
+     *
+     * @param finishIfSkipped 실행기에서 건너뛴 경우에도 실패로 종료 기록할지 여부 (false 이면 lease 가 만료되어 다시 인계됨)
+     */
+    private void submitLeased(Long uid, String beanName, LocalDateTime leaseTime, CancellationToken token,
+            BooleanSupplier job, boolean finishIfSkipped) {
+        AtomicReference<String> status = new AtomicReference<>("F");
+        Runnable leased = () -> status.set(scheduleLeaseService.runLeased(uid, leaseTime, token, job));
+        scheduleJobExecutor.submit(beanName, leased).thenAccept(ran -> {
+            if (ran || finishIfSkipped) {
+                scheduleLeaseService.finishLeased(uid, leaseTime, token, status.get());
             }
+        });
+    }
+
+    /**
+     * 로컬 실행 접수, 빈별 실행 자리를 반납한 뒤 (건너뛴 경우 포함) 취소 신호 완료
+     */
+    private void submitLocal(Long uid, String beanName, String beanParam, String methodStr, String worker,
+            CancellationToken token, Integer timeoutSec) {
+        Runnable local = () -> runLocal(uid, beanName, beanParam, methodStr, worker, token, timeoutSec);
+        scheduleJobExecutor.submit(beanName, local).whenComplete((ran, error) -> {
+            runningTokens.remove(uid, token);
+            token.complete();
+        });
+    }
+
+    private void runLocal(Long uid, String beanName, String beanParam, String methodStr, String worker,
+            CancellationToken token, Integer timeoutSec) {
+        // 이전 실행을 기다리는 동안 다음 실행으로 대체된 경우
+        if (token.isCancelled()) {
+            log.info("스케줄 uid={} 대기 중 다음 실행으로 대체되어 건너뜀", uid);
+            return;
         }
-        return fallback;
+        executeWithDependents(uid, beanName, beanParam, methodStr, worker, token, timeoutSec);
+    }
+
+    /**
+     * 작업 실행 후 후속 스케줄이 있으면 DAG 실행 시작 (후속 작업은 실행기에서 이어서 실행되므로 바로 반환)
+     */
+    private boolean executeWithDependents(Long uid, String beanName, String beanParam, String methodStr,
+            String worker, CancellationToken token, Integer timeoutSec) {
+        ScheduleGraph graph = scheduleGraph;
+        String runId = graph.hasChildren(uid) ? UUID.randomUUID().toString() : null;
+        boolean success = executeJob(uid, beanName, beanParam, methodStr, worker, token, timeoutSec, runId);
+        if (runId != null) {
+            advanceDag(new DagRun(runId, uid, graph), uid, success);
+        }
+        return success;
+    }
+
+    /**
+     * 종료된 스케줄의 후속 중 선행이 모두 끝난 스케줄을 실행기에 접수 (독립 분기는 병렬 실행)
+     * 다중 노드 모드에서도 후속 스케줄은 lease 없이 이 노드에서 실행하며, 노드 중단 시 남은 후속은 인계되지 않는다.
+     */
+    private void advanceDag(DagRun run, Long uid, boolean success) {
+        DagRun.Step step = run.complete(uid, success);
+        for (Long skipped : step.skipped()) {
+            recordSkipped(skipped, run.getRunId());
+        }
+        for (Long child : step.ready()) {
+            Schedule schedule = scheduleCache.get(child);
+            if (schedule == null) {
+                // 사용 중지/삭제된 후속 스케줄
+                recordSkipped(child, run.getRunId());
+                advanceDag(run, child, false);
+                continue;
+            }
+            // 다음 단계는 이 실행의 빈별 실행 자리를 반납한 뒤 진행 (거절/동시 실행 제한으로 건너뛰면 실패로 처리)
+            CancellationToken token = new CancellationToken();
+            AtomicBoolean ok = new AtomicBoolean();
+            scheduleJobExecutor.submit(schedule.getBeanName(), () -> ok.set(executeJob(child, schedule.getBeanName(),
+                    schedule.getBeanParam(), "S", "system", token, schedule.getTimeoutSec(), run.getRunId())))
+                    .thenAccept(ran -> {
+                        token.complete();
+                        if (!ran) {
+                            recordSkipped(child, run.getRunId(), "대기열 초과 또는 동시 실행 제한으로 실행하지 못함");
+                        }
+                        advanceDag(run, child, ran && ok.get());
+                    });
+        }
+    }
+
+    private void recordSkipped(Long uid, String runId) {
+        recordSkipped(uid, runId, "선행 스케줄 실패 또는 미실행으로 건너뜀");
+    }
+
+    private void recordSkipped(Long uid, String runId, String reason) {
+        Schedule schedule = scheduleCache.get(uid);
+        ScheduleLog scheduleLog = ScheduleLog.builder()
+                .beanName(schedule != null ? schedule.getBeanName() : null)
+                .method("S")
+                .result("X")
+                .message(reason + " (uid=" + uid + ")")
+                .startTime(LocalDateTime.now())
+                .worker("system")
+                .runId(runId)
+                .build();
+        scheduleLogWriter.finish(scheduleLog);
+        log.info("DAG 후속 스케줄 건너뜀 -> runId={}, uid={}", runId, uid);
+    }
+
+    /**
+     * 실행 로그를 남기며 작업 실행
+     * timeoutSec 이 지나면 취소 신호를 보내고, 제한 시간을 넘긴 실행은 결과를 T 로 기록한다.
+     *
+     * @param runId DAG 실행 ID (null 이면 이 실행만의 ID 를 새로 부여, 작업은 로그 UID 대신 이 값으로 실행을 식별)
+     * @return 성공 여부
+     */
+    private boolean executeJob(Long uid, String beanName, String beanParam, String methodStr, String worker,
+            CancellationToken token, Integer timeoutSec, String runId) {
+        ScheduleLog scheduleLog = ScheduleLog.builder()
+                .corpCode(null)
+                .beanName(beanName)
+                .method(methodStr)
+                .result("I")
+                .worker(worker)
+                .runId(runId != null ? runId : UUID.randomUUID().toString())
+                .cancellationToken(token)
+                .build();
+        scheduleLog.setProgressReporter((percent, processed, message) -> {
+            if (scheduleEventBroadcaster.hasSubscribers(uid)) {
+                scheduleEventBroadcaster.publish(event("PROGRESS", uid, scheduleLog)
+                        .percent(percent).processed(processed).message(message).build());
+            }
+        });
+
+        // 시작/종료 로그는 비동기 writer 가 모아서 기록
+        scheduleLogWriter.start(scheduleLog);
+        publishEvent("START", uid, scheduleLog);
+        scheduleMetrics.recordStart(beanName);
+        long startedAt = System.nanoTime();
+
+        token.bind(Thread.currentThread());
+        ScheduledFuture<?> timeout = timeoutSec != null && timeoutSec > 0
+                ? taskScheduler.schedule(() -> token.cancel(CancellationToken.Reason.TIMEOUT),
+                        Instant.now().plusSeconds(timeoutSec))
+                : null;
+        Exception failure = null;
+        try {
+            log.info("동적 작업 실행 시작 -> uid={}, bean={}", uid, beanName);
+            scheduleJobRegistry.get(beanName).execute(beanParam, scheduleLog);
+        } catch (Exception ex) {
+            failure = ex;
+        } finally {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            // 취소 인터럽트가 로그 기록에 영향을 주지 않도록 정리
+            token.unbind();
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        if (token.getReason() == CancellationToken.Reason.TIMEOUT) {
+            log.warn("스케줄 작업 실행 제한 시간 초과 -> uid={}, bean={}, timeoutSec={}", uid, beanName, timeoutSec);
+            scheduleLog.setResult("T");
+            scheduleLog.setMessage("실행 제한 시간 초과 (" + timeoutSec + "초)");
+            scheduleLogWriter.finish(scheduleLog);
+            publishEvent("END", uid, scheduleLog);
+            scheduleMetrics.recordTimeout(beanName);
+            scheduleMetrics.recordFinish(beanName, elapsed, false);
+            return false;
+        }
+
+        if (failure == null) {
+            log.info("스케줄 동적 작업 완료 -> uid={}, bean={}", uid, beanName);
+
+            // Job에서 result를 설정하지 않았으면(여전히 "I") 기본값 "S" 설정
+            if ("I".equals(scheduleLog.getResult())) {
+                scheduleLog.setResult("S");
+                scheduleLog.setMessage("Success");
+            }
+            scheduleLogWriter.finish(scheduleLog);
+            publishEvent("END", uid, scheduleLog);
+            boolean success = !"F".equals(scheduleLog.getResult());
+            scheduleMetrics.recordFinish(beanName, elapsed, success);
+            return success;
+        }
+
+        scheduleLog.setResult("F");
+        String errMsg;
+        if (token.getReason() == CancellationToken.Reason.DUP_STOP) {
+            log.info("스케줄 작업 중지됨 (DUP_STOP) -> uid={}, bean={}", uid, beanName);
+            errMsg = "DUP_STOP 재실행으로 중지됨";
+        } else {
+            log.error("스케줄 작업 실행 중 오류 발생 -> uid={}, bean={}", uid, beanName, failure);
+            // 작업 예외가 래핑 없이 그대로 전달되므로 메시지가 없을 때만 원인 메시지 사용
+            errMsg = failure.getMessage();
+            if (errMsg == null && failure.getCause() != null) {
+                errMsg = failure.getCause().getMessage();
+            }
+        }
+        scheduleLog.setMessage(errMsg != null ? errMsg.substring(0, Math.min(errMsg.length(), 500))
+                : "Unknown Error");
+        scheduleLogWriter.finish(scheduleLog);
+        publishEvent("END", uid, scheduleLog);
+        scheduleMetrics.recordFinish(beanName, elapsed, false);
+        return false;
+    }
+
+    private void publishEvent(String type, Long uid, ScheduleLog scheduleLog) {
+        if (scheduleEventBroadcaster.hasSubscribers(uid)) {
+            scheduleEventBroadcaster.publish(event(type, uid, scheduleLog)
+                    .result("END".equals(type) ? scheduleLog.getResult() : null)
+                    .message("END".equals(type) ? scheduleLog.getMessage() : null)
+                    .build());
+        }
+    }
+
+    private static ScheduleEvent.ScheduleEventBuilder event(String type, Long uid, ScheduleLog scheduleLog) {
+        return ScheduleEvent.builder()
+                .type(type)
+                .uid(uid)
+                .beanName(scheduleLog.getBeanName())
+                .runId(scheduleLog.getRunId())
+                .time(LocalDateTime.now());
     }
 }
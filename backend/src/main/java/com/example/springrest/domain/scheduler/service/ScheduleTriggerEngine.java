@@ -0,0 +1,29 @@
+package com.example.springrest.domain.scheduler.service;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 동적 스케줄 트리거 엔진
+ * app.scheduler.engine 으로 선택한다.
+ * scheduler: ThreadPoolTaskScheduler + CronTrigger (스케줄당 ScheduledFuture 1개, 기본값)
+ * wheel    : 계층형 타이밍 휠 (스케줄 수만 건 이상)
+ */
+public interface ScheduleTriggerEngine {
+
+    /**
+     * cron 표현식으로 반복 트리거 등록
+     *
+     * @param fire 예정 실행시각을 받는 콜백. 엔진 스레드에서 호출되므로 작업은 실행기로 넘기고 바로 반환해야 한다.
+     * @throws IllegalArgumentException cron 표현식 오류
+     */
+    TriggerHandle schedule(String cron, Consumer<LocalDateTime> fire);
+
+    @FunctionalInterface
+    interface TriggerHandle {
+        /**
+         * 이후 트리거 취소 (이미 실행기로 넘어간 작업은 영향 없음)
+         */
+        void cancel();
+    }
+}
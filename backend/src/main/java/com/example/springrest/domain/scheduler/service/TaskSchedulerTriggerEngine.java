@@ -0,0 +1,28 @@
+package com.example.springrest.domain.scheduler.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+/**
+ * ThreadPoolTaskScheduler 기반 트리거 엔진 (스케줄마다 CronTrigger + ScheduledFuture)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.scheduler", name = "engine", havingValue = "scheduler", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TaskSchedulerTriggerEngine implements ScheduleTriggerEngine {
+
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Override
+    public TriggerHandle schedule(String cron, Consumer<LocalDateTime> fire) {
+        FireTimeTrigger trigger = new FireTimeTrigger(cron);
+        ScheduledFuture<?> future = taskScheduler.schedule(() -> fire.accept(trigger.getFireTime()), trigger);
+        return () -> future.cancel(false); // 실행 중인 스레드를 강제로 인터럽트 하지 않음
+    }
+}
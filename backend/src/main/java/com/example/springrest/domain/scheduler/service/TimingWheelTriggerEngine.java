@@ -0,0 +1,285 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 트리거 엔진
+ * 6단계 x 64슬롯 휠에 스케줄을 이중 연결 리스트로 걸어 두고, 단일 스레드가 틱마다 해당 슬롯만 처리한다.
+ * 상위 단계 슬롯은 하위 단계 한 바퀴가 끝날 때 아래 단계로 내려보낸다 (cascade).
+ * 등록/취소는 대기열에 넣기만 하므로 O(1) 이며, 실행 후 다음 시각은 같은 항목을 다시 거는 방식이라 재등록 시 할당이 없다.
+ * cron 표현식은 문자열별로 한 번만 파싱하여 같은 표현식의 스케줄끼리 공유한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.scheduler", name = "engine", havingValue = "wheel")
+public class TimingWheelTriggerEngine implements ScheduleTriggerEngine {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6; // 100ms 틱 기준 약 200년
+
+    private final long tickMillis;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final Map<String, CronExpression> compiled = new ConcurrentHashMap<>();
+
+    // 다른 스레드의 등록/취소 요청 (휠 스레드가 틱마다 반영)
+    private final Queue<Entry> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> pendingCancels = new ConcurrentLinkedQueue<>();
+
+    // 아래 필드는 휠 스레드 전용
+    private final Entry[][] wheel = new Entry[LEVELS][SLOTS];
+    private long currentTick;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TimingWheelTriggerEngine(SchedulerProperties schedulerProperties) {
+        this(schedulerProperties, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 시계 지정 (테스트에서 시간을 직접 진행)
+     */
+    TimingWheelTriggerEngine(SchedulerProperties schedulerProperties, Clock clock) {
+        this.tickMillis = Math.max(1, schedulerProperties.getWheel().getTick().toMillis());
+        this.clock = clock;
+        this.zone = clock.getZone();
+        this.currentTick = clock.millis() / tickMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("schedule-wheel").daemon(true).start(this::runLoop);
+        log.info("타이밍 휠 트리거 엔진 시작 -> tick={}ms", tickMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(tickMillis * 10 + 1000);
+    }
+
+    @Override
+    public TriggerHandle schedule(String cron, Consumer<LocalDateTime> fire) {
+        CronExpression expression = compiled.computeIfAbsent(cron, CronExpression::parse);
+        Entry entry = new Entry(expression, fire);
+        LocalDateTime next = expression.next(LocalDateTime.now(clock));
+        if (next == null) {
+            return entry;
+        }
+        entry.setFireTime(next);
+        pendingAdds.add(entry);
+        return entry;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                advanceToNow();
+
+                long sleepMillis = (currentTick + 1) * tickMillis - clock.millis();
+                if (sleepMillis > 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMillis));
+                }
+            } catch (Exception e) {
+                log.error("타이밍 휠 처리 중 오류 발생", e);
+            }
+        }
+    }
+
+    /**
+     * 현재 시각까지 밀린 틱을 모두 진행하고 등록/취소 요청 반영 (휠 스레드 전용, 테스트에서는 직접 호출)
+     */
+    void advanceToNow() {
+        long nowTick = clock.millis() / tickMillis;
+        while (currentTick < nowTick) {
+            advance(currentTick + 1);
+        }
+        applyPending();
+    }
+
+    /**
+     * 틱 하나 진행: 상위 단계 cascade 후 0단계 슬롯 만료 처리
+     */
+    private void advance(long tick) {
+        currentTick = tick;
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = SLOT_BITS * level;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                Entry head = detach(level, (int) ((tick >>> shift) & SLOT_MASK));
+                while (head != null) {
+                    Entry next = head.next;
+                    head.next = null;
+                    // 이번 틱이 만료인 항목은 아래에서 바로 처리되도록 현재 슬롯에 연결
+                    link(head, tick);
+                    head = next;
+                }
+            }
+        }
+        applyPending();
+
+        Entry head = detach(0, (int) (tick & SLOT_MASK));
+        while (head != null) {
+            Entry next = head.next;
+            head.next = null;
+            expire(head);
+            head = next;
+        }
+    }
+
+    private void expire(Entry entry) {
+        if (entry.cancelled) {
+            return;
+        }
+        if (entry.deadlineTick > currentTick) {
+            // 범위 밖이라 최상위 단계에 임시로 걸어 둔 항목
+            link(entry);
+            return;
+        }
+
+        LocalDateTime fireTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.fireEpochMillis), zone);
+        try {
+            entry.fire.accept(fireTime);
+        } catch (Exception e) {
+            log.error("스케줄 트리거 콜백 오류", e);
+        }
+
+        // 다음 예정 시각 (휠이 밀려 지난 시각이면 건너뜀)
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime next = entry.cron.next(fireTime.isAfter(now) ? fireTime : now);
+        if (next == null || entry.cancelled) {
+            return;
+        }
+        entry.setFireTime(next);
+        link(entry);
+    }
+
+    private void applyPending() {
+        Entry entry;
+        while ((entry = pendingCancels.poll()) != null) {
+            unlink(entry);
+        }
+        while ((entry = pendingAdds.poll()) != null) {
+            if (!entry.cancelled) {
+                link(entry);
+            }
+        }
+    }
+
+    private void link(Entry entry) {
+        link(entry, currentTick + 1);
+    }
+
+    /**
+     * 만료 틱이 현재와 같은 상위 블록에 속하는 가장 낮은 단계에 연결 (minTick 보다 이르면 minTick 으로 당김)
+     */
+    private void link(Entry entry, long minTick) {
+        if (entry.deadlineTick < minTick) {
+            entry.deadlineTick = minTick;
+        }
+        long deadline = entry.deadlineTick;
+        int level = 0;
+        while (level < LEVELS - 1
+                && (deadline >>> (SLOT_BITS * (level + 1))) != (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int shift = SLOT_BITS * level;
+        int slot = (int) ((deadline >>> shift) & SLOT_MASK);
+        if (level == LEVELS - 1 && (deadline >>> (shift + SLOT_BITS)) != (currentTick >>> (shift + SLOT_BITS))) {
+            // 휠 범위 밖: 이번 바퀴의 마지막 슬롯에 걸어 두고 cascade 때 다시 계산
+            slot = (int) (((currentTick >>> shift) - 1) & SLOT_MASK);
+        }
+
+        Entry head = wheel[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        wheel[level][slot] = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.level < 0) {
+            return;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            wheel[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.level = -1;
+    }
+
+    /**
+     * 슬롯 전체를 떼어 내어 반환 (next 로만 순회)
+     */
+    private Entry detach(int level, int slot) {
+        Entry head = wheel[level][slot];
+        wheel[level][slot] = null;
+        for (Entry entry = head; entry != null; entry = entry.next) {
+            entry.level = -1;
+            entry.prev = null;
+        }
+        return head;
+    }
+
+    private final class Entry implements TriggerHandle {
+        private final CronExpression cron;
+        private final Consumer<LocalDateTime> fire;
+        private long fireEpochMillis;
+        private long deadlineTick;
+        private Entry prev;
+        private Entry next;
+        private int level = -1;
+        private int slot;
+        private volatile boolean cancelled;
+
+        private Entry(CronExpression cron, Consumer<LocalDateTime> fire) {
+            this.cron = cron;
+            this.fire = fire;
+        }
+
+        private void setFireTime(LocalDateTime fireTime) {
+            fireEpochMillis = fireTime.atZone(zone).toInstant().toEpochMilli();
+            deadlineTick = Math.ceilDiv(fireEpochMillis, tickMillis);
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                pendingCancels.add(this);
+            }
+        }
+    }
+}
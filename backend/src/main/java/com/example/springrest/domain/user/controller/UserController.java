@@ -1,10 +1,16 @@
 package com.example.springrest.domain.user.controller;
 
+import com.example.springrest.domain.export.model.dto.ExportJobResponse;
+import com.example.springrest.domain.export.service.ExcelExportJobService;
 import com.example.springrest.global.model.dto.ApiResponse;
+import com.example.springrest.domain.user.model.dto.UserExcelDto;
+import com.example.springrest.domain.user.model.dto.UserImportResult;
 import com.example.springrest.domain.user.model.dto.UserInfoRequest;
 
+import com.example.springrest.global.model.dto.CursorPage;
 import com.example.springrest.global.model.dto.PageResponse;
 import com.example.springrest.domain.user.model.dto.UserRoleAssignRequest;
+import com.example.springrest.domain.user.service.UserImportService;
 import com.example.springrest.domain.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,6 +32,8 @@ import com.example.springrest.domain.user.model.dto.UserInfoResponse;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ExcelExportJobService excelExportJobService;
 
     @Operation(summary = "사용자 목록 조회")
     @GetMapping
@@ -41,6 +49,20 @@ public class UserController {
                 .ok(ApiResponse.success(userService.getAllUsers(page, size, userName, startDate, endDate, sort)));
     }
 
+    @Operation(summary = "사용자 목록 커서 페이징 조회",
+            description = "사용자 목록과 같이 사용 여부(USE_YN)와 관계없이 조회. sort: userName,asc 형식 (방향은 모두 같아야 함)")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<UserInfoResponse>>> getUsersAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String userName,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity
+                .ok(ApiResponse.success(userService.getUsersAfter(cursor, size, userName, startDate, endDate, sort)));
+    }
+
     @Operation(summary = "사용자 상세 조회")
     @GetMapping("/{userId}")
     public ResponseEntity<ApiResponse<UserInfoResponse>> getUserById(@PathVariable String userId) {
@@ -93,11 +115,20 @@ public class UserController {
         userService.downloadExcel(response, userName, startDate, endDate);
     }
 
-    @Operation(summary = "엑셀 업로드")
+    @Operation(summary = "엑셀 비동기 내보내기 요청", description = "작업 ID를 반환하며 /api/v1/mgmt/exports/{jobId} 로 진행 상태를 조회한다")
+    @PostMapping("/excel/export")
+    public ResponseEntity<ApiResponse<ExportJobResponse>> exportExcel(
+            @RequestParam(required = false) String userName,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+        return ResponseEntity.ok(ApiResponse.success(excelExportJobService.submit("사용자목록.xlsx",
+                UserExcelDto.class, sink -> userService.streamExcel(userName, startDate, endDate, sink))));
+    }
+
+    @Operation(summary = "엑셀 업로드", description = "비밀번호는 신규 사용자에만 적용 (기존 사용자는 유지), 사용 여부가 비어 있으면 기존 값 유지")
     @PostMapping("/excel/upload")
-    public ResponseEntity<ApiResponse<Void>> uploadExcel(
+    public ResponseEntity<ApiResponse<UserImportResult>> uploadExcel(
             @RequestParam("file") org.springframework.web.multipart.MultipartFile file) throws java.io.IOException {
-        userService.uploadExcel(file);
-        return ResponseEntity.ok(ApiResponse.success(null));
+        return ResponseEntity.ok(ApiResponse.success(userImportService.importExcel(file)));
     }
 }
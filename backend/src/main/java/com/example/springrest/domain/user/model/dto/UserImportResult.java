@@ -0,0 +1,41 @@
+package com.example.springrest.domain.user.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 엑셀 일괄 업로드 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+    private int total; // 처리 대상 행 수
+    private int inserted; // 신규 등록 건수
+    private int updated; // 수정 건수
+    private int failed; // 실패 건수
+    private List<RowResult> rows; // 행별 처리 결과
+
+    /**
+     * 행별 처리 결과
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private int rowNum; // 엑셀 행 번호 (헤더 = 0)
+        private String userId;
+        private Status status;
+        private String message; // 실패 사유
+    }
+
+    public enum Status {
+        INSERTED, UPDATED, FAILED
+    }
+}
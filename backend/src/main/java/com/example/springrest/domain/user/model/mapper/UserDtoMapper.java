@@ -44,4 +44,12 @@ public interface UserDtoMapper {
      */
     @Mapping(target = "userPwd", ignore = true)
     com.example.springrest.domain.user.model.dto.UserExcelDto toExcelDto(UserInfo entity);
+
+    /**
+     * Excel DTO -> Entity (일괄 업로드)
+     * 비밀번호는 서비스에서 암호화 후 처리하므로 매핑 제외
+     */
+    @Mapping(target = "userPwd", ignore = true)
+    @Mapping(target = "roles", ignore = true)
+    UserInfo toEntity(com.example.springrest.domain.user.model.dto.UserExcelDto dto);
 }
@@ -3,15 +3,24 @@ package com.example.springrest.domain.user.repository;
 import com.example.springrest.domain.user.model.entity.UserInfo;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
 import com.example.springrest.global.common.repository.BaseMapper;
+import com.example.springrest.global.common.repository.CursorTable;
+import com.example.springrest.global.util.Keyset;
 
 /**
  * 사용자 상세 정보 데이터 접근 매퍼
+ * 목록 조회 (페이지/커서, 공통/검색) 는 사용 여부(USE_YN)와 관계없이 모든 사용자를 조회한다 (관리 화면에서 비활성 사용자도 관리).
  */
 @Mapper
+@CursorTable(name = "CHMM_USER_INFO",
+        columns = "USER_ID, USER_EMAIL, USER_MOBILE, USER_NAME, USER_NICK, USER_MSG, USER_DESC, USER_STAT_CD, "
+                + "USER_PROVIDER, USER_SNSID, USE_YN, SYS_INSERT_DTM, SYS_INSERT_USER_ID, SYS_UPDATE_DTM, "
+                + "SYS_UPDATE_USER_ID",
+        sortTable = "users", defaultSort = "userId,asc")
 public interface UserInfoMapper extends BaseMapper<UserInfo, String> {
     UserInfo findById(@Param("userId") String userId);
 
@@ -22,9 +31,32 @@ public interface UserInfoMapper extends BaseMapper<UserInfo, String> {
     List<UserInfo> findAllWithSearch(@Param("userName") String userName, @Param("startDate") String startDate,
             @Param("endDate") String endDate, @Param("sort") String sort);
 
+    /**
+     * 커서 페이지 조회 (keyset.limit 건)
+     */
+    List<UserInfo> findAllWithSearchAfter(@Param("userName") String userName, @Param("startDate") String startDate,
+            @Param("endDate") String endDate, @Param("keyset") Keyset keyset);
+
+    /**
+     * 검색 조건의 사용자를 Cursor로 조회 (트랜잭션 안에서만 소비 가능)
+     */
+    Cursor<UserInfo> streamAllWithSearch(@Param("userName") String userName, @Param("startDate") String startDate,
+            @Param("endDate") String endDate);
+
     int insert(UserInfo userInfo);
 
     int update(UserInfo userInfo);
 
+    /**
+     * 주어진 ID 중 이미 존재하는 사용자 ID 조회
+     */
+    List<String> findExistingIds(@Param("userIds") List<String> userIds);
+
+    /**
+     * 사용자 등록 또는 수정 (INSERT ... ON CONFLICT (USER_ID) DO UPDATE)
+     * 기존 사용자의 비밀번호는 변경하지 않음
+     */
+    int upsert(UserInfo userInfo);
+
     int delete(@Param("userId") String userId);
 }
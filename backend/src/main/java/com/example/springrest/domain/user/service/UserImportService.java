@@ -0,0 +1,223 @@
+package com.example.springrest.domain.user.service;
+
+import com.example.springrest.common.excel.ExcelRow;
+import com.example.springrest.common.excel.ExcelUtils;
+import com.example.springrest.domain.user.model.dto.UserExcelDto;
+import com.example.springrest.domain.user.model.dto.UserImportResult;
+import com.example.springrest.domain.user.model.dto.UserImportResult.RowResult;
+import com.example.springrest.domain.user.model.dto.UserImportResult.Status;
+import com.example.springrest.domain.user.model.entity.UserInfo;
+import com.example.springrest.domain.user.model.mapper.UserDtoMapper;
+import com.example.springrest.domain.user.repository.UserInfoMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사용자 엑셀 일괄 업로드 서비스
+ * 엑셀을 스트리밍으로 읽어 chunk 단위로 처리한다.
+ * chunk 마다 기존 사용자 ID를 한 번에 조회하고, 신규 사용자 비밀번호를 병렬로 암호화한 뒤
+ * MyBatis BATCH executor로 INSERT ... ON CONFLICT 를 묶어 실행하고 커밋한다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String DEFAULT_PASSWORD = "test1234";
+
+    private final UserDtoMapper userDtoMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService hashExecutor;
+    private final int chunkSize;
+
+    public UserImportService(
+            UserDtoMapper userDtoMapper,
+            PasswordEncoder passwordEncoder,
+            SqlSessionFactory sqlSessionFactory,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.user-import.chunk-size:1000}") int chunkSize,
+            @Value("${app.user-import.hash-parallelism:0}") int hashParallelism) {
+        this.userDtoMapper = userDtoMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        // 0 이하이면 CPU 코어 수만큼 (BCrypt는 CPU 바운드)
+        int threads = hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("user-import-hash-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    /**
+     * 엑셀 파일의 사용자를 일괄 등록/수정
+     * chunk 단위로 커밋하며, 실패한 chunk는 행 단위로 다시 실행하여 실패한 행만 FAILED로 기록하고 다음 chunk를 계속 처리한다.
+     * 변환할 수 없는 셀(날짜/숫자 형식 오류 등)이 있는 행은 저장하지 않고 FAILED로 기록한다.
+     * 비밀번호 셀은 신규 사용자에만 적용된다 (비어 있으면 기본 비밀번호). 기존 사용자의 비밀번호는 바꾸지 않으며,
+     * 이는 이전 업로드 (UPDATE 문에 USER_PWD 없음) 와 같은 동작이다. 사용 여부 셀이 비어 있으면 기존 값을 유지한다.
+     */
+    public UserImportResult importExcel(MultipartFile file) throws IOException {
+        List<RowResult> results = new ArrayList<>();
+        ExcelUtils.readExcel(file, UserExcelDto.class, chunkSize, chunk -> results.addAll(importChunk(chunk)));
+
+        int inserted = 0;
+        int updated = 0;
+        int failed = 0;
+        for (RowResult result : results) {
+            switch (result.getStatus()) {
+                case INSERTED -> inserted++;
+                case UPDATED -> updated++;
+                case FAILED -> failed++;
+            }
+        }
+        log.info("User excel import finished: total={}, inserted={}, updated={}, failed={}",
+                results.size(), inserted, updated, failed);
+
+        return UserImportResult.builder()
+                .total(results.size())
+                .inserted(inserted)
+                .updated(updated)
+                .failed(failed)
+                .rows(results)
+                .build();
+    }
+
+    private List<RowResult> importChunk(List<ExcelRow<UserExcelDto>> chunk) {
+        List<RowResult> results = new ArrayList<>(chunk.size());
+        List<ExcelRow<UserExcelDto>> validRows = new ArrayList<>(chunk.size());
+
+        for (ExcelRow<UserExcelDto> row : chunk) {
+            UserExcelDto dto = row.data();
+            if (row.hasError()) {
+                results.add(failed(row, row.error()));
+            } else if (isBlank(dto.getUserId()) || isBlank(dto.getUserName())) {
+                results.add(failed(row, "사용자 ID와 이름은 필수입니다"));
+            } else {
+                validRows.add(row);
+            }
+        }
+        if (validRows.isEmpty()) {
+            return results;
+        }
+
+        UserInfoMapper mapper = batchSqlSessionTemplate.getMapper(UserInfoMapper.class);
+        List<UserInfo> users = new ArrayList<>(validRows.size());
+        List<RowResult> chunkResults = new ArrayList<>(validRows.size());
+        try {
+            // 1. 기존 사용자 ID 일괄 조회 (chunk 당 1회)
+            Set<String> existingIds = new HashSet<>(mapper.findExistingIds(
+                    validRows.stream().map(row -> row.data().getUserId()).distinct().toList()));
+
+            // 2. 신규 사용자 비밀번호 병렬 암호화 (기존 사용자는 비밀번호를 변경하지 않음)
+            Set<String> seenIds = new HashSet<>(existingIds);
+            List<CompletableFuture<String>> hashes = new ArrayList<>(validRows.size());
+            for (ExcelRow<UserExcelDto> row : validRows) {
+                UserExcelDto dto = row.data();
+                users.add(userDtoMapper.toEntity(dto));
+
+                boolean isNew = seenIds.add(dto.getUserId());
+                if (isNew) {
+                    String rawPassword = !isBlank(dto.getUserPwd()) ? dto.getUserPwd() : DEFAULT_PASSWORD;
+                    hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword),
+                            hashExecutor));
+                    chunkResults.add(result(row, Status.INSERTED));
+                } else {
+                    hashes.add(null);
+                    chunkResults.add(result(row, Status.UPDATED));
+                }
+            }
+            for (int i = 0; i < users.size(); i++) {
+                if (hashes.get(i) != null) {
+                    users.get(i).setUserPwd(hashes.get(i).join());
+                }
+            }
+        } catch (Exception e) {
+            // 조회/암호화 실패는 특정 행의 문제가 아니므로 chunk 전체 실패
+            log.warn("User excel import chunk failed: rows {}-{}", validRows.get(0).rowNum(),
+                    validRows.get(validRows.size() - 1).rowNum(), e);
+            for (ExcelRow<UserExcelDto> row : validRows) {
+                results.add(failed(row, message(e)));
+            }
+            results.sort(Comparator.comparingInt(RowResult::getRowNum));
+            return results;
+        }
+
+        // 3. chunk 단위 트랜잭션으로 batch upsert
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                users.forEach(mapper::upsert);
+                batchSqlSessionTemplate.flushStatements();
+            });
+            results.addAll(chunkResults);
+        } catch (Exception e) {
+            // 어느 행이 실패했는지 알 수 없으므로 행마다 트랜잭션을 나누어 다시 실행하고 실패한 행만 FAILED
+            log.warn("User excel import chunk failed, retrying row by row: rows {}-{}", validRows.get(0).rowNum(),
+                    validRows.get(validRows.size() - 1).rowNum(), e);
+            for (int i = 0; i < users.size(); i++) {
+                UserInfo user = users.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        mapper.upsert(user);
+                        batchSqlSessionTemplate.flushStatements();
+                    });
+                    results.add(chunkResults.get(i));
+                } catch (Exception rowError) {
+                    results.add(failed(validRows.get(i), message(rowError)));
+                }
+            }
+        }
+
+        results.sort(Comparator.comparingInt(RowResult::getRowNum));
+        return results;
+    }
+
+    private static RowResult result(ExcelRow<UserExcelDto> row, Status status) {
+        return RowResult.builder()
+                .rowNum(row.rowNum())
+                .userId(row.data().getUserId())
+                .status(status)
+                .build();
+    }
+
+    private static RowResult failed(ExcelRow<UserExcelDto> row, String message) {
+        return RowResult.builder()
+                .rowNum(row.rowNum())
+                .userId(row.data().getUserId())
+                .status(Status.FAILED)
+                .message(message.substring(0, Math.min(message.length(), 500)))
+                .build();
+    }
+
+    private static String message(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.toString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
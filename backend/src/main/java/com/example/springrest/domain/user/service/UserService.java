@@ -1,5 +1,6 @@
 package com.example.springrest.domain.user.service;
 
+import com.example.springrest.domain.user.model.dto.UserExcelDto;
 import com.example.springrest.domain.user.model.dto.UserInfoRequest;
 import com.example.springrest.domain.user.model.dto.UserInfoResponse;
 import com.example.springrest.domain.user.model.entity.UserInfo;
@@ -7,6 +8,7 @@ import com.example.springrest.domain.user.model.entity.UserRoleMap;
 import com.example.springrest.domain.user.model.mapper.UserDtoMapper;
 import com.example.springrest.domain.user.repository.UserInfoMapper;
 import com.example.springrest.domain.user.repository.UserRoleMapper;
+import com.example.springrest.global.model.dto.CursorPage;
 import com.example.springrest.global.model.dto.PageResponse;
 import com.github.pagehelper.PageHelper;
 import com.github.pagehelper.PageInfo;
@@ -15,11 +17,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import com.example.springrest.global.common.service.BaseService;
+import com.example.springrest.global.util.CursorCodec;
+import com.example.springrest.global.util.Keyset;
 import com.example.springrest.global.util.SortValidator;
 
 /**
@@ -30,6 +38,8 @@ import com.example.springrest.global.util.SortValidator;
 @RequiredArgsConstructor
 public class UserService extends BaseService<UserInfo, String, UserInfoMapper> {
 
+    private static final String DEFAULT_SORT = "userId,asc";
+
     private final UserInfoMapper userInfoMapper;
 
     @Override
@@ -48,8 +58,6 @@ public class UserService extends BaseService<UserInfo, String, UserInfoMapper> {
     public PageResponse<UserInfoResponse> getAllUsers(int page, int size, String userName, String startDate,
             String endDate,
             String sort) {
-        PageHelper.startPage(page, size);
-
         if (startDate != null && !startDate.isEmpty()) {
             startDate = startDate + " 00:00:00";
         }
@@ -57,15 +65,10 @@ public class UserService extends BaseService<UserInfo, String, UserInfoMapper> {
             endDate = endDate + " 23:59:59";
         }
 
-        // Sort validation
-        String sortClause = null;
-        if (sort != null && !sort.isEmpty()) {
-            String[] parts = sort.split(",");
-            if (parts.length == 2) {
-                sortClause = sortValidator.validateAndConvert("users", parts[0], parts[1]);
-            }
-        }
+        // 다중 컬럼 정렬 + 유일 보조 정렬 (user_id) 로 페이지 경계 고정
+        String sortClause = sortValidator.toOrderBy(sortValidator.parseSort("users", sort, DEFAULT_SORT));
 
+        PageHelper.startPage(page, size);
         List<UserInfo> users = userInfoMapper.findAllWithSearch(userName, startDate, endDate, sortClause);
         List<UserInfoResponse> userResponses = userDtoMapper.toResponseList(users);
 
@@ -81,6 +84,28 @@ public class UserService extends BaseService<UserInfo, String, UserInfoMapper> {
         return PageResponse.of(responsePageInfo, userResponses);
     }
 
+    /**
+     * 커서 페이징 목록 조회 (OFFSET 없이 마지막 행의 정렬 키 다음부터 조회, getAllUsers 와 같이 USE_YN 과 관계없이 조회)
+     * 검색 조건이 없으면 공통 커서 조회 (BaseMapper.findAfter) 를 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserInfoResponse> getUsersAfter(String cursor, Integer size, String userName, String startDate,
+            String endDate, String sort) {
+        if (!StringUtils.hasLength(userName) && !StringUtils.hasLength(startDate) && !StringUtils.hasLength(endDate)) {
+            return findAfter(cursor, size, sort, userDtoMapper::toResponseList);
+        }
+        if (startDate != null && !startDate.isEmpty()) {
+            startDate = startDate + " 00:00:00";
+        }
+        if (endDate != null && !endDate.isEmpty()) {
+            endDate = endDate + " 23:59:59";
+        }
+
+        Keyset keyset = CursorCodec.decode(sortValidator.parseKeysetSort("users", sort, DEFAULT_SORT), cursor, size);
+        List<UserInfo> users = userInfoMapper.findAllWithSearchAfter(userName, startDate, endDate, keyset);
+        return CursorPage.of(users, keyset, userDtoMapper::toResponseList);
+    }
+
     // getUserById uses UserInfoResponse, so we keep logic but use super.findById
     // internally if we want,
     // but here we already use userInfoMapper.findById directly or via super.
@@ -149,6 +174,26 @@ public class UserService extends BaseService<UserInfo, String, UserInfoMapper> {
                 .toList();
     }
 
+    /**
+     * 검색 조건의 사용자를 엑셀 DTO로 변환하여 한 건씩 전달 (비동기 내보내기용)
+     * 호출자가 연 트랜잭션 안에서 Cursor로 읽으므로 전체 목록을 메모리에 올리지 않는다.
+     */
+    public void streamExcel(String userName, String startDate, String endDate,
+            Consumer<UserExcelDto> sink) throws IOException {
+        if (startDate != null && !startDate.isEmpty()) {
+            startDate = startDate + " 00:00:00";
+        }
+        if (endDate != null && !endDate.isEmpty()) {
+            endDate = endDate + " 23:59:59";
+        }
+
+        try (Cursor<UserInfo> cursor = userInfoMapper.streamAllWithSearch(userName, startDate, endDate)) {
+            for (UserInfo user : cursor) {
+                sink.accept(userDtoMapper.toExcelDto(user));
+            }
+        }
+    }
+
     public void downloadExcel(jakarta.servlet.http.HttpServletResponse response, String userName, String startDate,
             String endDate) throws java.io.IOException {
         if (startDate != null && !startDate.isEmpty()) {
@@ -174,27 +219,4 @@ public class UserService extends BaseService<UserInfo, String, UserInfoMapper> {
         workbook.write(response.getOutputStream());
         workbook.close();
     }
-
-    @Transactional
-    public void uploadExcel(org.springframework.web.multipart.MultipartFile file) throws java.io.IOException {
-        List<com.example.springrest.domain.user.model.dto.UserExcelDto> excelList = com.example.springrest.common.excel.ExcelUtils
-                .fromExcel(file, com.example.springrest.domain.user.model.dto.UserExcelDto.class);
-
-        for (com.example.springrest.domain.user.model.dto.UserExcelDto dto : excelList) {
-            UserInfoRequest request = UserInfoRequest.builder()
-                    .userId(dto.getUserId())
-                    .userName(dto.getUserName())
-                    .userEmail(dto.getUserEmail())
-                    .userNick(dto.getUserNick())
-                    .useYn(dto.getUseYn())
-                    .userPwd(dto.getUserPwd() != null && !dto.getUserPwd().isEmpty() ? dto.getUserPwd() : "test1234")
-                    .build();
-
-            if (userInfoMapper.findById(dto.getUserId()) != null) {
-                updateUser(request);
-            } else {
-                createUser(request);
-            }
-        }
-    }
 }
@@ -1,5 +1,9 @@
 package com.example.springrest.global.common.repository;
 
+import com.example.springrest.global.util.Keyset;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
 import java.util.List;
 
 /**
@@ -18,4 +22,13 @@ public interface BaseMapper<T, ID> {
     int update(T entity);
 
     int delete(ID id);
+
+    /**
+     * 커서(keyset) 페이지 조회 (COUNT / OFFSET 없음, Mapper 에 {@link CursorTable} 필요)
+     *
+     * @param cursor 정렬 키와 이전 페이지 마지막 행 값
+     * @param limit  조회 건수 (다음 페이지 확인용 1건 포함, 보통 cursor.getLimit())
+     */
+    @SelectProvider(type = CursorSqlProvider.class, method = "findAfter")
+    List<T> findAfter(@Param("cursor") Keyset cursor, @Param("limit") int limit);
 }
@@ -0,0 +1,48 @@
+package com.example.springrest.global.common.repository;
+
+import com.example.springrest.global.util.Keyset;
+import org.apache.ibatis.builder.annotation.ProviderContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link BaseMapper#findAfter} SQL 생성
+ * 테이블명/조회 컬럼은 Mapper 의 {@link CursorTable}, 정렬 컬럼은 SortValidator 로 검증된 Keyset 에서만 가져오고
+ * 값은 바인드 파라미터로 넘긴다.
+ */
+public class CursorSqlProvider {
+
+    public static String findAfter(Map<String, Object> params, ProviderContext context) {
+        CursorTable table = context.getMapperType().getAnnotation(CursorTable.class);
+        if (table == null) {
+            throw new IllegalStateException(context.getMapperType().getSimpleName() + " 에 @CursorTable 이 없습니다.");
+        }
+        return build(table, (Keyset) params.get("cursor"));
+    }
+
+    static String build(CursorTable table, Keyset keyset) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(table.columns()).append(" FROM ").append(table.name());
+        List<String> conditions = new ArrayList<>(2);
+        if (!table.activeColumn().isEmpty()) {
+            conditions.add(table.activeColumn() + " = '1'");
+        }
+        if (keyset.getValues() != null) {
+            StringBuilder keys = new StringBuilder("(");
+            for (int i = 0; i < keyset.getKeys().size(); i++) {
+                keys.append(i > 0 ? ", " : "").append(keyset.getKeys().get(i).getColumn());
+            }
+            keys.append(") ").append(keyset.getOperator()).append(" (");
+            for (int i = 0; i < keyset.getValues().size(); i++) {
+                keys.append(i > 0 ? ", " : "").append("#{cursor.values[").append(i).append("]}");
+            }
+            conditions.add(keys.append(")").toString());
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY ").append(keyset.getOrderBy()).append(" LIMIT #{limit}");
+        return sql.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.springrest.global.common.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link BaseMapper#findAfter} 커서 페이징 대상 테이블 (Mapper 인터페이스에 지정)
+ * 사용 예: {@code @CursorTable(name = "tb_orders", columns = "order_id, cust_nm, ...", sortTable = "orders",
+ * defaultSort = "sysInsertDtm,desc")}
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CursorTable {
+
+    /**
+     * 조회 테이블명 (SQL 에 그대로 들어가므로 상수만 지정)
+     */
+    String name();
+
+    /**
+     * 조회 컬럼 목록 (SQL 에 그대로 들어가므로 상수만 지정, 비밀번호 등 응답에 필요 없는 컬럼은 제외)
+     */
+    String columns();
+
+    /**
+     * SortValidator 정렬 허용 테이블 키 (users, orders ...)
+     */
+    String sortTable();
+
+    /**
+     * 기본 정렬 조건 ("sysInsertDtm,desc" 형식)
+     */
+    String defaultSort();
+
+    /**
+     * 사용 여부 컬럼 (지정하면 값이 '1' 인 행만 조회)
+     * 같은 도메인의 다른 목록 조회 (검색 조건 커서/페이지 조회) 에도 같은 조건을 두어 조회 결과가 어긋나지 않게 한다.
+     */
+    String activeColumn() default "";
+}
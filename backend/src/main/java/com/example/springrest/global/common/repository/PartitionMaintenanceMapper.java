@@ -0,0 +1,61 @@
+package com.example.springrest.global.common.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PostgreSQL RANGE 파티션 관리 Mapper
+ * 테이블명은 SQL 식별자로 치환되므로 반드시 {@link com.example.springrest.global.common.service.PartitionMaintenanceService}
+ * 를 통해 검증된 값으로 호출한다.
+ */
+@Mapper
+public interface PartitionMaintenanceMapper {
+
+    /**
+     * 파티션 테이블의 하위 파티션 이름 목록 (소문자)
+     */
+    List<String> findPartitions(@Param("parentTable") String parentTable);
+
+    /**
+     * [from, to) 범위 파티션 생성 (이미 있으면 무시)
+     */
+    void createRangePartition(@Param("parentTable") String parentTable, @Param("partitionName") String partitionName,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * DEFAULT 파티션 이름 (없으면 null)
+     */
+    String findDefaultPartition(@Param("parentTable") String parentTable);
+
+    /**
+     * 파티션 키 컬럼 (단일 컬럼 RANGE 파티션)
+     */
+    String findPartitionKey(@Param("parentTable") String parentTable);
+
+    /**
+     * 부모 테이블과 같은 구조의 일반 테이블 생성 (ATTACH 전 단계)
+     */
+    void createTableLike(@Param("parentTable") String parentTable, @Param("tableName") String tableName);
+
+    /**
+     * DEFAULT 파티션에서 [from, to) 행을 target 으로 이동
+     *
+     * @return 이동한 행 수
+     */
+    int moveRows(@Param("sourceTable") String sourceTable, @Param("targetTable") String targetTable,
+            @Param("keyColumn") String keyColumn, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 일반 테이블을 [from, to) 범위 파티션으로 연결
+     */
+    void attachRangePartition(@Param("parentTable") String parentTable, @Param("partitionName") String partitionName,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 파티션 삭제
+     */
+    void dropPartition(@Param("partitionName") String partitionName);
+}
@@ -1,12 +1,20 @@
 package com.example.springrest.global.common.service;
 
 import com.example.springrest.global.common.repository.BaseMapper;
+import com.example.springrest.global.common.repository.CursorTable;
+import com.example.springrest.global.model.dto.CursorPage;
 import com.example.springrest.global.model.dto.PageResponse;
+import com.example.springrest.global.util.CursorCodec;
+import com.example.springrest.global.util.Keyset;
+import com.example.springrest.global.util.SortValidator;
 import com.github.pagehelper.PageHelper;
 import com.github.pagehelper.PageInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Generic Base Service for standard CRUD operations.
@@ -17,8 +25,15 @@ import java.util.List;
  */
 public abstract class BaseService<T, ID, M extends BaseMapper<T, ID>> {
 
+    private SortValidator sortValidator;
+
     protected abstract M getMapper();
 
+    @Autowired
+    public void setSortValidator(SortValidator sortValidator) {
+        this.sortValidator = sortValidator;
+    }
+
     public PageResponse<T> findAll(int page, int size) {
         PageHelper.startPage(page, size);
         List<T> list = getMapper().findAll();
@@ -26,6 +41,32 @@ public abstract class BaseService<T, ID, M extends BaseMapper<T, ID>> {
         return PageResponse.of(pageInfo, list);
     }
 
+    /**
+     * 커서 페이징 조회 (전체 건수가 필요 없는 무한 스크롤용, COUNT / OFFSET 없음)
+     * Mapper 에 {@link CursorTable} 이 있으면 도메인별 SQL 없이 사용할 수 있다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param sort   "sysInsertDtm,desc" 형식 (방향은 모두 같아야 함, 비어 있으면 기본 정렬)
+     */
+    public CursorPage<T> findAfter(String cursor, Integer size, String sort) {
+        return findAfter(cursor, size, sort, Function.identity());
+    }
+
+    /**
+     * 커서 페이징 조회 + 응답 변환
+     *
+     * @param converter 엔티티 목록 -> DTO 목록 변환
+     */
+    public <D> CursorPage<D> findAfter(String cursor, Integer size, String sort, Function<List<T>, List<D>> converter) {
+        CursorTable table = AnnotationUtils.findAnnotation(getMapper().getClass(), CursorTable.class);
+        if (table == null) {
+            throw new IllegalStateException("커서 페이징을 지원하지 않는 Mapper 입니다 (@CursorTable 없음).");
+        }
+        Keyset keyset = CursorCodec.decode(sortValidator.parseKeysetSort(table.sortTable(), sort, table.defaultSort()),
+                cursor, size);
+        return CursorPage.of(getMapper().findAfter(keyset, keyset.getLimit()), keyset, converter);
+    }
+
     public T findById(ID id) {
         return getMapper().findById(id);
     }
@@ -0,0 +1,109 @@
+package com.example.springrest.global.common.service;
+
+import com.example.springrest.global.common.repository.PartitionMaintenanceMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 월별 RANGE 파티션 관리 (PostgreSQL)
+ * 파티션 이름은 {부모 테이블}_{yyyyMM} 규칙을 따른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]{0,50}");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final PartitionMaintenanceMapper partitionMaintenanceMapper;
+
+    /**
+     * [from, to] 월의 파티션이 없으면 생성
+     * DEFAULT 파티션이 있으면 해당 월 행이 이미 들어가 있을 수 있으므로 (PARTITION OF 생성 시 오류)
+     * 일반 테이블로 만든 뒤 DEFAULT 파티션의 해당 월 행을 옮기고 ATTACH 한다.
+     *
+     * @return 새로 생성한 파티션 이름
+     */
+    @Transactional
+    public List<String> ensureMonthlyPartitions(String parentTable, YearMonth from, YearMonth to) {
+        String parent = identifier(parentTable);
+        List<String> existing = partitionMaintenanceMapper.findPartitions(parent);
+        String defaultPartition = partitionMaintenanceMapper.findDefaultPartition(parent);
+        String keyColumn = defaultPartition != null
+                ? identifier(partitionMaintenanceMapper.findPartitionKey(parent))
+                : null;
+        List<String> created = new ArrayList<>();
+
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            String name = parent + "_" + month.format(SUFFIX);
+            if (existing.contains(name)) {
+                continue;
+            }
+            LocalDate start = month.atDay(1);
+            LocalDate end = month.plusMonths(1).atDay(1);
+            if (defaultPartition == null) {
+                partitionMaintenanceMapper.createRangePartition(parent, name, start, end);
+            } else {
+                partitionMaintenanceMapper.createTableLike(parent, name);
+                int moved = partitionMaintenanceMapper.moveRows(identifier(defaultPartition), name, keyColumn,
+                        start, end);
+                partitionMaintenanceMapper.attachRangePartition(parent, name, start, end);
+                if (moved > 0) {
+                    log.info("DEFAULT 파티션 행 이동 -> {} ({}건)", name, moved);
+                }
+            }
+            created.add(name);
+            log.info("파티션 생성 -> {}", name);
+        }
+        return created;
+    }
+
+    /**
+     * cutoff 월 이전의 월별 파티션 삭제 (DEFAULT 등 규칙에 맞지 않는 파티션은 유지)
+     *
+     * @return 삭제한 파티션 이름
+     */
+    public List<String> dropMonthlyPartitionsBefore(String parentTable, YearMonth cutoff) {
+        String parent = identifier(parentTable);
+        String prefix = parent + "_";
+        List<String> dropped = new ArrayList<>();
+
+        for (String name : partitionMaintenanceMapper.findPartitions(parent)) {
+            if (!name.startsWith(prefix)) {
+                continue;
+            }
+            YearMonth month;
+            try {
+                month = YearMonth.parse(name.substring(prefix.length()), SUFFIX);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            if (month.isBefore(cutoff)) {
+                partitionMaintenanceMapper.dropPartition(identifier(name));
+                dropped.add(name);
+                log.info("보관 기간 경과 파티션 삭제 -> {}", name);
+            }
+        }
+        return dropped;
+    }
+
+    private static String identifier(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (!IDENTIFIER.matcher(lower).matches()) {
+            throw new IllegalArgumentException("허용되지 않는 테이블명입니다: " + name);
+        }
+        return lower;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 비동기 엑셀 내보내기 작업 Properties
+ * application.yml의 app.export.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+    /**
+     * 내보내기 결과 파일 저장 디렉터리
+     * 기본값: 시스템 임시 디렉터리 하위 exports
+     */
+    private String dir = System.getProperty("java.io.tmpdir") + "/exports";
+
+    /**
+     * 동시에 실행되는 내보내기 작업 수
+     */
+    private int workers = 2;
+
+    /**
+     * 대기열 최대 작업 수 (초과 시 요청 거절)
+     */
+    private int queueCapacity = 20;
+
+    /**
+     * 완료된 파일 보관 시간
+     * 기본값: 30분
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+
+    /**
+     * 자동 너비 컬럼의 너비 추정에 사용할 데이터 행 수
+     * 0이면 헤더 길이만 사용
+     */
+    private int autoSizeSampleRows = 100;
+}
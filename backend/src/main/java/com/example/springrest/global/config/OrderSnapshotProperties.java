@@ -0,0 +1,42 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 주문 메모리 컬럼형 스냅샷 Properties
+ * application.yml의 app.order-snapshot.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.order-snapshot")
+public class OrderSnapshotProperties {
+    /**
+     * 스냅샷 사용 여부 (사용 시 tb_orders 전체를 힙에 적재, 주문 100만 건당 약 20MB + 주문 번호)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 증분 갱신 주기 (sys_update_dtm 기준 변경분만 조회)
+     */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * 전체 재적재 주기 (증분 갱신으로 알 수 없는 삭제 반영)
+     */
+    private Duration fullRefreshInterval = Duration.ofHours(1);
+
+    /**
+     * 증분 조회 시 마지막 변경 시각에서 거슬러 올라가는 시간
+     * sys_update_dtm 은 트랜잭션 시작 시각이므로, 늦게 커밋된 변경을 놓치지 않도록 가장 긴 주문 트랜잭션보다 길게 둔다.
+     */
+    private Duration lag = Duration.ofMinutes(5);
+
+    /**
+     * 이 건수 이상이면 병렬로 스캔
+     */
+    private int parallelThreshold = 200_000;
+}
@@ -1,6 +1,7 @@
 package com.example.springrest.global.config;
 
 import com.example.springrest.global.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -66,6 +67,9 @@ public class SecurityConfig {
                 // 요청별 권한 설정
                 .authorizeHttpRequests(auth -> auth
 
+                        // 이미 인증된 요청의 비동기 재디스패치 (SSE / 스트리밍 응답 완료 시)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // API 및 기타 설정
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
@@ -75,6 +75,18 @@ public class GlobalExceptionHandler {
                                 .body(ApiResponse.error(ErrorCode.NOT_FOUND.getCode(), ex.getMessage()));
         }
 
+        /**
+         * 권한 없음 (서비스에서 직접 확인한 리소스 소유자 불일치 등)
+         */
+        @ExceptionHandler(org.springframework.security.access.AccessDeniedException.class)
+        public ResponseEntity<ApiResponse<Void>> handleAccessDeniedException(
+                        org.springframework.security.access.AccessDeniedException ex) {
+                log.warn("Access denied: {}", ex.getMessage());
+                return ResponseEntity
+                                .status(HttpStatus.FORBIDDEN)
+                                .body(ApiResponse.error(ErrorCode.ACCESS_DENIED.getCode(), ex.getMessage()));
+        }
+
         /**
          * IllegalArgumentException 처리
          */
@@ -0,0 +1,43 @@
+package com.example.springrest.global.model.dto;
+
+import com.example.springrest.global.util.CursorCodec;
+import com.example.springrest.global.util.Keyset;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이징 응답 DTO (전체 건수 없음)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CursorPage<T> {
+    private List<T> list;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터 (마지막 페이지는 null)
+
+    private CursorPage(List<T> list, int size, boolean hasNext, String nextCursor) {
+        this.list = list;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * limit(size + 1) 로 조회한 행을 응답으로 변환
+     *
+     * @param rows      조회 결과 (size 초과분은 다음 페이지 존재 여부 확인용)
+     * @param keyset    조회 조건
+     * @param converter 엔티티 -> DTO 변환
+     */
+    public static <E, D> CursorPage<D> of(List<E> rows, Keyset keyset, Function<List<E>, List<D>> converter) {
+        boolean hasNext = rows.size() > keyset.getSize();
+        List<E> page = hasNext ? rows.subList(0, keyset.getSize()) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(keyset.getKeys(), page.get(page.size() - 1)) : null;
+        return new CursorPage<>(converter.apply(page), keyset.getSize(), hasNext, nextCursor);
+    }
+}
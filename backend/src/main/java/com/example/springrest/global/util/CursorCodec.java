@@ -0,0 +1,94 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.global.util.SortValidator.SortKey;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커서 토큰 변환
+ * 토큰은 정렬 조건과 마지막 행의 정렬 키 값을 담은 JSON 의 Base64URL 이며, 다른 정렬 조건으로 만든 토큰은 거부한다.
+ * 값은 SQL 에 바인드 파라미터로만 전달되므로 서명하지 않는다.
+ */
+public final class CursorCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 커서 토큰 -> 조회 조건 (토큰이 비어 있으면 첫 페이지)
+     */
+    public static Keyset decode(List<SortKey> keys, String cursor, Integer size) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Keyset(keys, null, size);
+        }
+        try {
+            JsonNode node = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+            if (!signature(keys).equals(node.path("s").asText())) {
+                throw new IllegalArgumentException("정렬 조건이 커서와 다릅니다.");
+            }
+            JsonNode encoded = node.path("v");
+            if (!encoded.isArray() || encoded.size() != keys.size()) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            List<Object> values = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                values.add(parse(keys.get(i).getType(), encoded.get(i).asText()));
+            }
+            return new Keyset(keys, values, size);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 마지막 행 -> 다음 페이지 커서 토큰
+     */
+    public static String encode(List<SortKey> keys, Object row) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        List<String> values = new ArrayList<>(keys.size());
+        for (SortKey key : keys) {
+            Object value = wrapper.getPropertyValue(key.getProperty());
+            if (value == null) {
+                throw new IllegalStateException("커서 정렬 키 값이 없습니다: " + key.getColumn());
+            }
+            values.add(value.toString());
+        }
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("s", signature(keys));
+        token.put("v", values);
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsString(token).getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException("커서 생성 실패", e);
+        }
+    }
+
+    private static String signature(List<SortKey> keys) {
+        return String.join(",", keys.stream().map(SortKey::getOrderBy).toList());
+    }
+
+    private static Object parse(Class<?> type, String value) {
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        return value;
+    }
+}
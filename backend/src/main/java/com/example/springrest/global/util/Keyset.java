@@ -0,0 +1,49 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.global.util.SortValidator.SortKey;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지 조회 조건 (Mapper 파라미터)
+ * 사용 예:
+ * <pre>
+ * AND (key1, key2) ${keyset.operator} (#{value1}, #{value2})
+ * ORDER BY ${keyset.orderBy} LIMIT #{keyset.limit}
+ * </pre>
+ */
+@Getter
+public class Keyset {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 500;
+
+    private final List<SortKey> keys;
+    private final List<Object> values; // 이전 페이지 마지막 행의 정렬 키 값 (첫 페이지는 null)
+    private final int size;
+
+    Keyset(List<SortKey> keys, List<Object> values, Integer size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+     */
+    public int getLimit() {
+        return size + 1;
+    }
+
+    /**
+     * 행 값 비교 연산자 (정렬 방향이 모두 같음)
+     */
+    public String getOperator() {
+        return keys.get(0).isDesc() ? "<" : ">";
+    }
+
+    public String getOrderBy() {
+        return String.join(", ", keys.stream().map(SortKey::getOrderBy).toList());
+    }
+}
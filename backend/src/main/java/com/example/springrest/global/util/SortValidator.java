@@ -1,40 +1,183 @@
 package com.example.springrest.global.util;
 
+import lombok.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class SortValidator {
 
-    private static final Map<String, Set<String>> ALLOWED_COLUMNS = Map.of(
-            "users", Set.of("user_id", "user_name", "user_email", "user_nick", "sys_insert_dtm", "sys_update_dtm"),
-            "boards", Set.of("board_id", "title", "hit_cnt", "sys_insert_dtm", "sys_update_dtm", "view_count"),
-            "orders", Set.of("order_id", "cust_nm", "order_nm", "order_amt", "order_date", "sys_insert_dtm"));
+    /**
+     * 정렬 허용 컬럼 (컬럼 -> 값 타입), 유일 보조 정렬 컬럼, NULL 허용 컬럼
+     */
+    private record SortTable(Map<String, Class<?>> columns, String tiebreaker, Set<String> nullable) {
+    }
+
+    private static final Map<String, SortTable> TABLES = Map.of(
+            "users", new SortTable(Map.of(
+                    "user_id", String.class,
+                    "user_name", String.class,
+                    "user_email", String.class,
+                    "user_nick", String.class,
+                    "sys_insert_dtm", LocalDateTime.class,
+                    "sys_update_dtm", LocalDateTime.class),
+                    "user_id", Set.of("user_email", "user_nick", "sys_insert_dtm", "sys_update_dtm")),
+            "boards", new SortTable(Map.of(
+                    "board_id", Long.class,
+                    "title", String.class,
+                    "hit_cnt", Long.class,
+                    "sys_insert_dtm", LocalDateTime.class,
+                    "sys_update_dtm", LocalDateTime.class),
+                    "board_id", Set.of("hit_cnt", "sys_insert_dtm", "sys_update_dtm")),
+            "orders", new SortTable(Map.of(
+                    "order_id", String.class,
+                    "cust_nm", String.class,
+                    "order_nm", String.class,
+                    "order_amt", Long.class,
+                    "order_date", LocalDateTime.class,
+                    "sys_insert_dtm", LocalDateTime.class),
+                    "order_id", Set.of()));
+
+    /**
+     * 검증된 정렬 키
+     */
+    @Value
+    public static class SortKey {
+        String column; // snake_case 컬럼명
+        String property; // 엔티티 필드명
+        boolean desc;
+        Class<?> type; // 커서 값 타입
+
+        public String getOrderBy() {
+            return column + (desc ? " desc" : " asc");
+        }
+    }
 
     public String validateAndConvert(String table, String column, String direction) {
         if (column == null || column.isEmpty()) {
             return null;
         }
 
-        String snakeCase = camelToSnake(column);
+        String snakeCase = toColumn(table, column);
+
+        // Default to ASC if direction is invalid, or strictly validate
+        String dir = "desc".equalsIgnoreCase(direction) ? "desc" : "asc";
+        return snakeCase + " " + dir;
+    }
+
+    /**
+     * 다중 컬럼 정렬 검증 ("orderAmt,desc,orderDate,asc" 형식, 방향 생략 시 asc)
+     * 유일 보조 정렬 컬럼이 없으면 마지막 정렬 방향으로 붙여 페이지 경계가 항상 한 행으로 정해지게 한다.
+     *
+     * @param sort         요청 정렬 조건 (비어 있으면 defaultSort 사용)
+     * @param defaultSort  기본 정렬 조건 (같은 형식)
+     */
+    public List<SortKey> parseSort(String table, String sort, String defaultSort) {
+        SortTable spec = table(table);
+        String source = sort != null && !sort.isBlank() ? sort : defaultSort;
+
+        List<SortKey> keys = new ArrayList<>();
+        String[] tokens = source.split(",");
+        for (int i = 0; i < tokens.length; i++) {
+            String column = tokens[i].trim();
+            if (column.isEmpty()) {
+                continue;
+            }
+            boolean desc = false;
+            if (i + 1 < tokens.length && isDirection(tokens[i + 1])) {
+                desc = "desc".equalsIgnoreCase(tokens[++i].trim());
+            }
+            String snakeCase = toColumn(table, column);
+            if (keys.stream().anyMatch(key -> key.getColumn().equals(snakeCase))) {
+                throw new IllegalArgumentException("Duplicate sort column: " + column);
+            }
+            keys.add(key(spec, snakeCase, desc));
+        }
+
+        if (keys.stream().noneMatch(key -> key.getColumn().equals(spec.tiebreaker()))) {
+            boolean desc = !keys.isEmpty() && keys.get(keys.size() - 1).isDesc();
+            keys.add(key(spec, spec.tiebreaker(), desc));
+        }
+        return keys;
+    }
+
+    /**
+     * 커서(keyset) 페이징용 정렬 검증
+     * 행 값 비교 (a, b) &lt; (?, ?) 로 변환하므로 정렬 방향이 모두 같고 NULL 이 없는 컬럼이어야 한다.
+     */
+    public List<SortKey> parseKeysetSort(String table, String sort, String defaultSort) {
+        List<SortKey> keys = parseSort(table, sort, defaultSort);
+        SortTable spec = table(table);
+        for (SortKey key : keys) {
+            if (spec.nullable().contains(key.getColumn())) {
+                throw new IllegalArgumentException("커서 페이징에 사용할 수 없는 정렬 컬럼입니다 (NULL 허용): " + key.getColumn());
+            }
+            if (key.isDesc() != keys.get(0).isDesc()) {
+                throw new IllegalArgumentException("커서 페이징은 정렬 방향이 모두 같아야 합니다.");
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * ORDER BY 절 변환
+     */
+    public String toOrderBy(List<SortKey> keys) {
+        return keys.stream().map(SortKey::getOrderBy).collect(Collectors.joining(", "));
+    }
+
+    private String toColumn(String table, String column) {
+        String snakeCase = camelToSnake(column.trim());
         if ("view_count".equals(snakeCase) && "boards".equals(table)) {
             snakeCase = "hit_cnt";
         }
 
-        Set<String> allowed = ALLOWED_COLUMNS.get(table);
+        SortTable spec = TABLES.get(table);
 
-        if (allowed == null || !allowed.contains(snakeCase)) {
+        if (spec == null || !spec.columns().containsKey(snakeCase)) {
             throw new IllegalArgumentException("Invalid sort column: " + column);
         }
+        return snakeCase;
+    }
 
-        // Default to ASC if direction is invalid, or strictly validate
-        String dir = "desc".equalsIgnoreCase(direction) ? "desc" : "asc";
-        return snakeCase + " " + dir;
+    private static SortTable table(String table) {
+        SortTable spec = TABLES.get(table);
+        if (spec == null) {
+            throw new IllegalArgumentException("Invalid sort table: " + table);
+        }
+        return spec;
+    }
+
+    private static SortKey key(SortTable spec, String column, boolean desc) {
+        return new SortKey(column, snakeToCamel(column), desc, spec.columns().get(column));
+    }
+
+    private static boolean isDirection(String token) {
+        String trimmed = token.trim();
+        return "asc".equalsIgnoreCase(trimmed) || "desc".equalsIgnoreCase(trimmed);
     }
 
     private String camelToSnake(String str) {
         return str.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
     }
+
+    private static String snakeToCamel(String str) {
+        StringBuilder sb = new StringBuilder(str.length());
+        boolean upper = false;
+        for (char c : str.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
 }
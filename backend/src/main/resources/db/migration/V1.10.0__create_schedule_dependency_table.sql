@@ -0,0 +1,14 @@
+-- V1.10.0__create_schedule_dependency_table.sql
+-- 스케줄 의존 관계 (선행 스케줄이 모두 성공하면 후속 스케줄 실행) 및 DAG 실행 ID
+
+CREATE TABLE SA_SYNC_SCHEDULE_DEPENDENCY (
+    SCHEDULE_UID  INTEGER NOT NULL,                           -- 후속 스케줄 일련번호
+    PARENT_UID    INTEGER NOT NULL,                           -- 선행 스케줄 일련번호
+    PRIMARY KEY (SCHEDULE_UID, PARENT_UID)
+);
+
+CREATE INDEX IDX_SA_SYNC_SCHEDULE_DEPENDENCY_01 ON SA_SYNC_SCHEDULE_DEPENDENCY (PARENT_UID);
+
+ALTER TABLE SA_SYNC_SCHEDULE_LOG ADD COLUMN RUN_ID VARCHAR(36) DEFAULT NULL; -- DAG 실행 ID (같은 실행의 작업 로그 묶음)
+
+CREATE INDEX IDX_SA_SYNC_SCHEDULE_LOG_03 ON SA_SYNC_SCHEDULE_LOG (RUN_ID);
@@ -0,0 +1,29 @@
+-- V1.11.0__create_order_daily_stats_table.sql
+-- 주문 일별 집계 (주문일, 주문 상태 단위)
+-- 주문 생성/수정/삭제 시 증분 반영하고, orderDailyStatsJob 이 매일 최근 구간을 원본 기준으로 다시 계산한다.
+-- 재집계 구간 조회는 주문일 선두 인덱스 idx_tb_orders_sort_02 (V1.12.0) 를 사용한다.
+
+CREATE TABLE tb_order_daily_stats (
+    stat_date       DATE           NOT NULL, -- 주문일
+    order_status    VARCHAR(20)    NOT NULL, -- 주문 상태
+    order_cnt       BIGINT         NOT NULL DEFAULT 0, -- 주문 건수
+    order_amt       NUMERIC(18, 0) NOT NULL DEFAULT 0, -- 주문 금액 합계
+    sys_update_dtm  TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_tb_order_daily_stats PRIMARY KEY (stat_date, order_status)
+);
+
+COMMENT ON TABLE tb_order_daily_stats IS '주문 일별 집계';
+COMMENT ON COLUMN tb_order_daily_stats.stat_date IS '주문일';
+COMMENT ON COLUMN tb_order_daily_stats.order_status IS '주문 상태';
+COMMENT ON COLUMN tb_order_daily_stats.order_cnt IS '주문 건수';
+COMMENT ON COLUMN tb_order_daily_stats.order_amt IS '주문 금액 합계';
+
+-- 기존 주문 초기 집계
+INSERT INTO tb_order_daily_stats (stat_date, order_status, order_cnt, order_amt)
+SELECT CAST(order_date AS DATE), order_status, COUNT(*), SUM(order_amt)
+FROM tb_orders
+GROUP BY CAST(order_date AS DATE), order_status;
+
+-- 일별 재집계 작업 등록 (매일 02:30, 최근 7일)
+INSERT INTO SA_SYNC_SCHEDULE (BEAN_NAME, BEAN_PARAM, USED, DUP_STOP, CRON, COMMENT, CREATOR, UPDATER) VALUES
+    ('orderDailyStatsJob', '7', TRUE, TRUE, '0 30 2 * * *', '주문 일별 집계 재계산 (BEAN_PARAM: 최근 일수, ALL: 전체)', 'system', 'system');
@@ -0,0 +1,10 @@
+-- V1.12.0__add_keyset_sort_indexes.sql
+-- 커서(keyset) 페이징용 정렬 키 복합 인덱스 (정렬 컬럼 + 유일 보조 정렬 컬럼)
+-- (a, b) < (?, ?) 행 값 비교와 ORDER BY a, b 를 인덱스 범위 스캔으로 처리한다. 내림차순은 역방향 스캔.
+
+CREATE INDEX idx_tb_orders_sort_01 ON tb_orders (sys_insert_dtm, order_id);
+CREATE INDEX idx_tb_orders_sort_02 ON tb_orders (order_date, order_id); -- 주문일 범위 조회 (일별 재집계) 겸용
+CREATE INDEX idx_tb_orders_sort_03 ON tb_orders (order_amt, order_id);
+CREATE INDEX idx_tb_orders_sort_04 ON tb_orders (cust_nm, order_id);
+
+CREATE INDEX IDX_CHMM_USER_INFO_SORT_01 ON CHMM_USER_INFO (USER_NAME, USER_ID);
@@ -0,0 +1,17 @@
+-- V1.13.0__create_order_keys_table.sql
+-- 주문 번호 -> 주문일 (tb_orders 를 주문일 기준 파티션으로 전환해도 주문 번호 유일성과 단건 조회 pruning 을 유지하기 위한 키 테이블)
+-- 주문 등록/수정/삭제 시 tb_orders 와 같은 문장에서 함께 갱신한다.
+
+CREATE TABLE tb_order_keys (
+    order_id    VARCHAR(20) NOT NULL, -- 주문 번호
+    order_date  TIMESTAMP   NOT NULL, -- 주문 일시 (tb_orders 파티션 키)
+    CONSTRAINT pk_tb_order_keys PRIMARY KEY (order_id)
+);
+
+COMMENT ON TABLE tb_order_keys IS '주문 번호 키';
+COMMENT ON COLUMN tb_order_keys.order_id IS '주문 번호';
+COMMENT ON COLUMN tb_order_keys.order_date IS '주문 일시';
+
+INSERT INTO tb_order_keys (order_id, order_date)
+SELECT order_id, order_date
+FROM tb_orders;
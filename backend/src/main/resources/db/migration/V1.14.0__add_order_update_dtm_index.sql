@@ -0,0 +1,4 @@
+-- V1.14.0__add_order_update_dtm_index.sql
+-- 주문 메모리 스냅샷 변경분 조회 (sys_update_dtm >= 마지막 반영 시각) 용 인덱스
+
+CREATE INDEX idx_tb_orders_update_dtm ON tb_orders (sys_update_dtm);
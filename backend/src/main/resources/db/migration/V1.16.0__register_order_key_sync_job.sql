@@ -0,0 +1,5 @@
+-- V1.16.0__register_order_key_sync_job.sql
+-- 주문 번호 키 보정 작업 등록 (매일 03:20, 청크 배치)
+
+INSERT INTO SA_SYNC_SCHEDULE (BEAN_NAME, BEAN_PARAM, USED, DUP_STOP, CRON, COMMENT, CREATOR, UPDATER) VALUES
+    ('orderKeySyncJob', NULL, TRUE, TRUE, '0 20 3 * * *', '주문 번호 키 (tb_order_keys) 보정', 'system', 'system');
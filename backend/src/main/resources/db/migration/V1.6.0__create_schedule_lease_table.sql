@@ -0,0 +1,17 @@
+-- V1.6.0__create_schedule_lease_table.sql
+-- 다중 노드 스케줄 실행 lease (스케줄 UID + 예정 실행시각 당 1건)
+
+CREATE TABLE SA_SYNC_SCHEDULE_LEASE (
+    SCHEDULE_UID  INTEGER NOT NULL,                           -- 스케줄 일련번호
+    FIRE_TIME     TIMESTAMP WITHOUT TIME ZONE NOT NULL,       -- 예정 실행시각 (수동 실행은 요청시각)
+    OWNER         VARCHAR(128) NOT NULL,                      -- 실행 노드 ID
+    STATUS        VARCHAR(1) NOT NULL,                        -- R:실행중, S:성공, F:실패, C:중지
+    CANCEL_REQ    BOOLEAN DEFAULT FALSE,                      -- 중지 요청 여부 (DUP_STOP)
+    LEASE_UNTIL   TIMESTAMP WITHOUT TIME ZONE NOT NULL,       -- lease 만료시각 (heartbeat 로 연장)
+    CLAIM_TIME    TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP, -- 점유시각
+    END_TIME      TIMESTAMP WITHOUT TIME ZONE DEFAULT NULL,   -- 종료시각
+    PRIMARY KEY (SCHEDULE_UID, FIRE_TIME)
+);
+
+CREATE INDEX IDX_SA_SYNC_SCHEDULE_LEASE_01 ON SA_SYNC_SCHEDULE_LEASE (STATUS, LEASE_UNTIL);
+CREATE INDEX IDX_SA_SYNC_SCHEDULE_LEASE_02 ON SA_SYNC_SCHEDULE_LEASE (OWNER, STATUS);
@@ -0,0 +1,5 @@
+-- V1.7.0__add_schedule_log_index.sql
+-- 스케줄 로그 조회 인덱스 (빈별 최신순, 전체 최신순 keyset 페이지네이션)
+
+CREATE INDEX IDX_SA_SYNC_SCHEDULE_LOG_01 ON SA_SYNC_SCHEDULE_LOG (BEAN_NAME, START_TIME DESC);
+CREATE INDEX IDX_SA_SYNC_SCHEDULE_LOG_02 ON SA_SYNC_SCHEDULE_LOG (START_TIME DESC, UID DESC);
@@ -0,0 +1,4 @@
+-- V1.8.0__add_schedule_timeout.sql
+-- 스케줄별 실행 제한 시간 (초과 시 취소 신호, 로그 RESULT = 'T')
+
+ALTER TABLE SA_SYNC_SCHEDULE ADD COLUMN TIMEOUT_SEC INTEGER DEFAULT NULL; -- 실행 제한 시간(초), NULL/0 이면 제한 없음
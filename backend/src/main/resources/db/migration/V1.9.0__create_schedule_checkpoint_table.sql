@@ -0,0 +1,13 @@
+-- V1.9.0__create_schedule_checkpoint_table.sql
+-- 청크 배치 작업 체크포인트 (작업 키당 1건, 청크 커밋과 같은 트랜잭션에서 갱신)
+
+CREATE TABLE SA_SYNC_SCHEDULE_CHECKPOINT (
+    JOB_KEY       VARCHAR(255) PRIMARY KEY,                   -- 작업 키 (기본: 스케줄 빈)
+    CHECKPOINT    VARCHAR(1000) DEFAULT NULL,                 -- 마지막으로 커밋한 청크의 위치
+    READ_COUNT    BIGINT DEFAULT 0,                           -- 누적 읽은 건수
+    WRITE_COUNT   BIGINT DEFAULT 0,                           -- 누적 기록 건수
+    CHUNK_COUNT   INTEGER DEFAULT 0,                          -- 누적 커밋 청크 수
+    STATUS        VARCHAR(1) NOT NULL,                        -- R:진행중, F:실패(재개 대상), C:완료
+    RUN_ID        VARCHAR(36) DEFAULT NULL,                   -- 마지막 실행 ID (SA_SYNC_SCHEDULE_LOG.RUN_ID, 시작 로그는 비동기 기록)
+    UPDATE_TIME   TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP -- 수정시간
+);
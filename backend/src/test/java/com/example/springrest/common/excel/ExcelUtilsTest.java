@@ -0,0 +1,193 @@
+package com.example.springrest.common.excel;
+
+import com.example.springrest.domain.user.model.dto.UserExcelDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ExcelUtils 단위 테스트
+ */
+@DisplayName("ExcelUtils 테스트")
+class ExcelUtilsTest {
+
+    enum Grade {
+        GOLD, SILVER
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class TypedRow {
+        @ExcelColumn(headerName = "코드", order = 1)
+        private String code;
+        @ExcelColumn(headerName = "수량", order = 2)
+        private int quantity;
+        @ExcelColumn(headerName = "금액", order = 3)
+        private BigDecimal amount;
+        @ExcelColumn(headerName = "일자", order = 4)
+        private LocalDate day;
+        @ExcelColumn(headerName = "일시", order = 5)
+        private LocalDateTime createdAt;
+        @ExcelColumn(headerName = "등급", order = 6)
+        private Grade grade;
+    }
+
+    /**
+     * TypedRow 와 같은 헤더를 문자열 그대로 기록 (형식 오류 셀 작성용)
+     */
+    @Data
+    @AllArgsConstructor
+    static class RawRow {
+        @ExcelColumn(headerName = "코드", order = 1)
+        private String code;
+        @ExcelColumn(headerName = "수량", order = 2)
+        private String quantity;
+        @ExcelColumn(headerName = "금액", order = 3)
+        private String amount;
+        @ExcelColumn(headerName = "일자", order = 4)
+        private String day;
+    }
+
+    private <T> MockMultipartFile toUpload(List<T> data, Class<T> clazz) throws Exception {
+        try (Workbook workbook = ExcelUtils.toExcel(data, clazz);
+                ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            workbook.write(out);
+            return new MockMultipartFile("file", "users.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+
+    private List<UserExcelDto> users(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> UserExcelDto.builder()
+                        .userId("user" + i)
+                        .userName("사용자" + i)
+                        .userEmail("user" + i + "@test.com")
+                        .useYn("1")
+                        .build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("toExcel 결과를 fromExcel로 다시 읽으면 동일한 데이터")
+    void roundTrip() throws Exception {
+        // given
+        List<UserExcelDto> data = users(3);
+
+        // when
+        List<UserExcelDto> result = ExcelUtils.fromExcel(toUpload(data, UserExcelDto.class), UserExcelDto.class);
+
+        // then
+        assertThat(result).containsExactlyElementsOf(data);
+    }
+
+    @Test
+    @DisplayName("readExcel은 batchSize 단위로 행 번호와 함께 전달")
+    void readExcel_Batches() throws Exception {
+        // given
+        MockMultipartFile file = toUpload(users(25), UserExcelDto.class);
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Integer> rowNums = new ArrayList<>();
+
+        // when
+        int total = ExcelUtils.readExcel(file, UserExcelDto.class, 10, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(row -> rowNums.add(row.rowNum()));
+        });
+
+        // then
+        assertThat(total).isEqualTo(25);
+        assertThat(batchSizes).containsExactly(10, 10, 5);
+        assertThat(rowNums).first().isEqualTo(1);
+        assertThat(rowNums).last().isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("변환할 수 없는 셀은 업로드를 중단하지 않고 해당 행의 오류로 전달")
+    void readExcel_InvalidCellAsRowError() throws Exception {
+        // given
+        MockMultipartFile file = toUpload(List.of(
+                new RawRow("A", "1", "100", "2025-03-01"),
+                new RawRow("B", "x", "100", "2025-13-40"),
+                new RawRow("C", "3", "300", "2025-03-03")), RawRow.class);
+        List<ExcelRow<TypedRow>> rows = new ArrayList<>();
+
+        // when
+        int total = ExcelUtils.readExcel(file, TypedRow.class, rows::add);
+
+        // then
+        assertThat(total).isEqualTo(3);
+        assertThat(rows).extracting(ExcelRow::hasError).containsExactly(false, true, false);
+        assertThat(rows.get(1).rowNum()).isEqualTo(2);
+        assertThat(rows.get(1).data().getCode()).isEqualTo("B");
+        assertThat(rows.get(1).error()).contains("수량", "일자");
+        assertThat(rows.get(2).data().getQuantity()).isEqualTo(3);
+        assertThatThrownBy(() -> ExcelUtils.fromExcel(file, TypedRow.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("row 2");
+    }
+
+    @Test
+    @DisplayName("LocalDate, LocalDateTime, BigDecimal, enum, primitive 컬럼 변환")
+    void roundTrip_TypedColumns() throws Exception {
+        // given
+        List<TypedRow> data = List.of(
+                new TypedRow("A", 3, new BigDecimal("1500"), LocalDate.of(2025, 3, 1),
+                        LocalDateTime.of(2025, 3, 1, 13, 45, 10), Grade.GOLD),
+                new TypedRow("B", 0, null, null, null, Grade.SILVER));
+
+        // when
+        List<TypedRow> result = ExcelUtils.fromExcel(toUpload(data, TypedRow.class), TypedRow.class);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).isEqualTo(data.get(0));
+        assertThat(result.get(1).getGrade()).isEqualTo(Grade.SILVER);
+        assertThat(result.get(1).getAmount()).isNull();
+    }
+
+    @Test
+    @DisplayName("width 미지정 컬럼은 헤더와 샘플 행의 표시 너비로 추정 (전각 2칸)")
+    void toExcel_EstimatesAutoWidth() throws Exception {
+        // given
+        List<TypedRow> data = List.of(
+                new TypedRow("가나다라마바사아자차카타파하", 1, null, null,
+                        LocalDateTime.of(2025, 3, 1, 13, 45, 10), Grade.GOLD),
+                new TypedRow("B", 1234567, null, null, null, Grade.SILVER));
+
+        // when
+        try (Workbook workbook = ExcelUtils.toExcel(data, TypedRow.class)) {
+            var sheet = workbook.getSheetAt(0);
+
+            // then
+            assertThat(sheet.getColumnWidth(0)).isEqualTo((14 * 2 + 2) * 256); // 한글 14자
+            assertThat(sheet.getColumnWidth(1)).isEqualTo((7 + 2) * 256); // 1234567
+            assertThat(sheet.getColumnWidth(2)).isEqualTo(8 * 256); // 헤더 "금액" 기준, 최소 너비
+            assertThat(sheet.getColumnWidth(4)).isEqualTo((19 + 2) * 256); // yyyy-MM-dd HH:mm:ss
+        }
+    }
+
+    @Test
+    @DisplayName("표시 너비는 전각 문자 2칸, 여러 줄은 가장 긴 줄 기준")
+    void displayWidth() {
+        assertThat(ExcelSheetWriter.displayWidth("abc")).isEqualTo(3);
+        assertThat(ExcelSheetWriter.displayWidth("사용자1")).isEqualTo(7);
+        assertThat(ExcelSheetWriter.displayWidth("ab\nabcd")).isEqualTo(4);
+        assertThat(ExcelSheetWriter.displayWidth(null)).isZero();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.springrest.domain.export.service;
+
+import com.example.springrest.domain.export.model.dto.ExportJobResponse;
+import com.example.springrest.global.config.ExportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ExcelExportJobService 작업 소유자 확인 테스트
+ */
+@DisplayName("ExcelExportJobService 테스트")
+class ExcelExportJobServiceTest {
+
+    private ExcelExportJobService excelExportJobService;
+
+    @BeforeEach
+    void setUp() {
+        excelExportJobService = new ExcelExportJobService(new ExportProperties(), mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        excelExportJobService.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("작업을 요청한 사용자는 상태를 조회할 수 있음")
+    void getJob_owner() {
+        loginAs("user1");
+        ExportJobResponse submitted = excelExportJobService.submit("a.xlsx", Object.class, sink -> {
+        });
+
+        assertThat(excelExportJobService.getJob(submitted.getJobId()).getJobId()).isEqualTo(submitted.getJobId());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회/다운로드 불가")
+    void getJob_otherUser_denied() {
+        loginAs("user1");
+        ExportJobResponse submitted = excelExportJobService.submit("a.xlsx", Object.class, sink -> {
+        });
+
+        loginAs("user2");
+        assertThatThrownBy(() -> excelExportJobService.getJob(submitted.getJobId()))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> excelExportJobService.getCompletedJob(submitted.getJobId()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private static void loginAs(String username) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
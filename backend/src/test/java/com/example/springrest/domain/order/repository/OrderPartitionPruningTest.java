@@ -0,0 +1,102 @@
+package com.example.springrest.domain.order.repository;
+
+import com.example.springrest.global.common.repository.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * tb_orders 월별 파티션 pruning 검증 (내장 PostgreSQL + 실제 마이그레이션 / OrderMapper.xml SQL)
+ */
+@DisplayName("OrderMapper 파티션 pruning 테스트")
+class OrderPartitionPruningTest {
+
+    private static final Pattern SCANNED_PARTITION = Pattern.compile(" on (tb_orders_(?:\\d{6}|default))\\b");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static EmbeddedPostgresSupport postgres;
+
+    private static final YearMonth THIS_MONTH = YearMonth.now();
+    private static final YearMonth NEXT_MONTH = THIS_MONTH.plusMonths(1);
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        postgres = EmbeddedPostgresSupport.start("mapper/OrderMapper.xml");
+        for (YearMonth month : new YearMonth[] { THIS_MONTH, NEXT_MONTH }) {
+            postgres.execute("""
+                    WITH keys AS (
+                        INSERT INTO tb_order_keys (order_id, order_date)
+                        SELECT 'O%1$s' || LPAD(g::text, 5, '0'), DATE '%2$s' + (g %% 28) * INTERVAL '1 day'
+                        FROM generate_series(1, 2000) g
+                        RETURNING order_id, order_date
+                    )
+                    INSERT INTO tb_orders (order_id, cust_nm, order_nm, order_amt, order_date)
+                    SELECT order_id, 'cust', 'item', 1000, order_date FROM keys
+                    """.formatted(month.format(SUFFIX), month.atDay(1)));
+        }
+        postgres.execute("ANALYZE tb_orders");
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    @DisplayName("주문일 범위 검색은 해당 월 파티션만 조회")
+    void findAllWithSearch_prunesByOrderDate() throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("custNm", null);
+        params.put("startDate", THIS_MONTH.atDay(1) + " 00:00:00");
+        params.put("endDate", THIS_MONTH.atDay(10) + " 23:59:59");
+        params.put("sort", "sys_insert_dtm desc, order_id desc");
+
+        Set<String> scanned = scannedPartitions("findAllWithSearch", params);
+
+        assertThat(scanned).containsExactly(partition(THIS_MONTH));
+    }
+
+    @Test
+    @DisplayName("주문 번호 단건 조회는 tb_order_keys 의 주문일로 파티션 하나만 실행")
+    void findById_prunesAtRuntime() throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("orderId", "O" + NEXT_MONTH.format(SUFFIX) + "00001");
+
+        Set<String> scanned = scannedPartitions("findById", params);
+
+        assertThat(scanned).containsExactly(partition(NEXT_MONTH));
+    }
+
+    /**
+     * EXPLAIN ANALYZE 결과에서 실제로 실행된 (never executed 가 아닌) 파티션 스캔
+     */
+    private static Set<String> scannedPartitions(String statementId, Map<String, Object> params) throws Exception {
+        Set<String> scanned = new TreeSet<>();
+        for (String line : postgres.explain(OrderMapper.class, statementId, params,
+                "ANALYZE, COSTS OFF, TIMING OFF, SUMMARY OFF")) {
+            Matcher matcher = SCANNED_PARTITION.matcher(line);
+            if (matcher.find() && !line.contains("never executed")) {
+                scanned.add(matcher.group(1));
+            }
+        }
+        return scanned;
+    }
+
+    private static String partition(YearMonth month) {
+        return "tb_orders_" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.springrest.domain.order.service;
+
+import com.example.springrest.domain.order.model.dto.OrderRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * OrderIngestReader / 행 검증 단위 테스트
+ */
+@DisplayName("OrderIngestReader 테스트")
+class OrderIngestReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("CSV: 헤더 이름 형식 무관 (order_id / orderId), 따옴표 안의 쉼표/따옴표/줄바꿈 허용")
+    void csv_quotedFields() throws IOException {
+        String csv = "order_id,custNm,ORDER_NM,order_amt,order_date\r\n"
+                + "O1,\"Kim, Minsu\",\"say \"\"hi\"\"\",1000,2026-01-02\r\n"
+                + "O2,Lee,\"line1\nline2\",,2026-01-02 10:20:30\n";
+
+        List<OrderIngestReader.Row> rows = readAll(OrderIngestService.Format.CSV, csv);
+
+        assertThat(rows).hasSize(2);
+        OrderRequest first = rows.get(0).request();
+        assertThat(rows.get(0).lineNo()).isEqualTo(2);
+        assertThat(first.getOrderId()).isEqualTo("O1");
+        assertThat(first.getCustNm()).isEqualTo("Kim, Minsu");
+        assertThat(first.getOrderNm()).isEqualTo("say \"hi\"");
+        assertThat(first.getOrderAmt()).isEqualTo(1000L);
+        assertThat(first.getOrderDate()).isEqualTo(LocalDateTime.of(2026, 1, 2, 0, 0));
+
+        OrderRequest second = rows.get(1).request();
+        assertThat(rows.get(1).lineNo()).isEqualTo(3);
+        assertThat(second.getOrderNm()).isEqualTo("line1\nline2");
+        assertThat(second.getOrderAmt()).isNull();
+        assertThat(second.getOrderDate()).isEqualTo(LocalDateTime.of(2026, 1, 2, 10, 20, 30));
+    }
+
+    @Test
+    @DisplayName("CSV: 여러 줄 필드 다음 행의 줄 번호는 실제 입력 줄 번호")
+    void csv_lineNumbersAfterEmbeddedNewline() throws IOException {
+        String csv = "orderId,custNm,orderNm\n"
+                + "O1,A,\"a\nb\nc\"\n"
+                + "\n"
+                + "O2,B,x\n";
+
+        List<OrderIngestReader.Row> rows = readAll(OrderIngestService.Format.CSV, csv);
+
+        assertThat(rows).extracting(OrderIngestReader.Row::lineNo).containsExactly(2L, 6L);
+    }
+
+    @Test
+    @DisplayName("CSV: 형식 오류 행은 오류로 반환하고 다음 행 계속")
+    void csv_rowErrors() throws IOException {
+        String csv = "orderId,custNm,orderNm,orderAmt,orderDate\n"
+                + "O1,A,x,abc,\n"
+                + "O2,B,x,,2026-13-40\n"
+                + "O3,C,x,10,\n"
+                + "O4,D,\"unterminated\n";
+
+        List<OrderIngestReader.Row> rows = readAll(OrderIngestService.Format.CSV, csv);
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).error()).contains("숫자가 아닙니다");
+        assertThat(rows.get(1).error()).contains("주문 일시 형식 오류");
+        assertThat(rows.get(2).request().getOrderId()).isEqualTo("O3");
+        assertThat(rows.get(3).error()).contains("따옴표가 닫히지 않았습니다");
+    }
+
+    @Test
+    @DisplayName("CSV: 필수 헤더 누락 시 IllegalArgumentException")
+    void csv_missingHeader() {
+        assertThatThrownBy(() -> readAll(OrderIngestService.Format.CSV, "orderId,custNm\nO1,A\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ordernm");
+    }
+
+    @Test
+    @DisplayName("NDJSON: 빈 줄 무시, 잘못된 JSON 은 해당 줄만 오류")
+    void ndjson() throws IOException {
+        String ndjson = "{\"orderId\":\"O1\",\"custNm\":\"A\",\"orderNm\":\"x\",\"orderAmt\":5}\n"
+                + "\n"
+                + "{broken\n"
+                + "{\"orderId\":\"O2\",\"custNm\":\"B\",\"orderNm\":\"y\"}\n";
+
+        List<OrderIngestReader.Row> rows = readAll(OrderIngestService.Format.NDJSON, ndjson);
+
+        assertThat(rows).extracting(OrderIngestReader.Row::lineNo).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).request().getOrderAmt()).isEqualTo(5L);
+        assertThat(rows.get(1).error()).startsWith("JSON 형식 오류");
+        assertThat(rows.get(2).request().getOrderId()).isEqualTo("O2");
+    }
+
+    @Test
+    @DisplayName("주문 금액은 NUMERIC(15,0) 범위까지만 허용")
+    void validate_orderAmtRange() {
+        assertThat(OrderIngestService.validate(request(999_999_999_999_999L))).isNull();
+        assertThat(OrderIngestService.validate(request(1_000_000_000_000_000L))).contains("범위");
+        assertThat(OrderIngestService.validate(request(-1L))).contains("범위");
+    }
+
+    private static OrderRequest request(long amount) {
+        OrderRequest request = new OrderRequest();
+        request.setOrderId("O1");
+        request.setCustNm("A");
+        request.setOrderNm("x");
+        request.setOrderAmt(amount);
+        return request;
+    }
+
+    private List<OrderIngestReader.Row> readAll(OrderIngestService.Format format, String input) throws IOException {
+        OrderIngestReader reader = OrderIngestReader.of(format, new BufferedReader(new StringReader(input)),
+                objectMapper);
+        List<OrderIngestReader.Row> rows = new ArrayList<>();
+        OrderIngestReader.Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.springrest.domain.scheduler.batch;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleCheckpoint;
+import com.example.springrest.domain.scheduler.model.entity.ScheduleLog;
+import com.example.springrest.domain.scheduler.repository.ScheduleCheckpointMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ChunkJobRunner 체크포인트 재개 / 병렬 변환 순서 테스트
+ */
+@DisplayName("ChunkJobRunner 테스트")
+class ChunkJobRunnerTest {
+
+    private static final String JOB_KEY = "testChunkJob";
+
+    private final Map<String, ScheduleCheckpoint> checkpoints = new HashMap<>();
+    private ChunkJobRunner chunkJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        // 체크포인트 저장소는 메모리 구현, 트랜잭션은 mock (청크 기록 실패 시 해당 청크의 체크포인트는 저장되지 않음)
+        ScheduleCheckpointMapper mapper = new ScheduleCheckpointMapper() {
+            @Override
+            public Optional<ScheduleCheckpoint> findByJobKey(String jobKey) {
+                return Optional.ofNullable(checkpoints.get(jobKey));
+            }
+
+            @Override
+            public int save(ScheduleCheckpoint checkpoint) {
+                // 실행기가 같은 객체를 계속 갱신하므로 저장 시점 값으로 복사
+                checkpoints.put(checkpoint.getJobKey(), new ScheduleCheckpoint(checkpoint.getJobKey(),
+                        checkpoint.getCheckpoint(), checkpoint.getReadCount(), checkpoint.getWriteCount(),
+                        checkpoint.getChunkCount(), checkpoint.getStatus(), checkpoint.getRunId(), null));
+                return 1;
+            }
+
+            @Override
+            public int updateStatus(String jobKey, String status, String runId) {
+                ScheduleCheckpoint saved = checkpoints.get(jobKey);
+                if (saved == null) {
+                    return 0;
+                }
+                saved.setStatus(status);
+                saved.setRunId(runId);
+                return 1;
+            }
+        };
+        chunkJobRunner = new ChunkJobRunner(mapper, mock(PlatformTransactionManager.class), new SchedulerProperties());
+    }
+
+    @Test
+    @DisplayName("실패한 실행은 마지막으로 커밋된 청크 다음부터 재개하고 RUN_ID 로 실행 로그와 연결")
+    void run_resumeAfterFailure() throws Exception {
+        List<Integer> source = IntStream.rangeClosed(1, 10).boxed().toList();
+        List<Integer> written = new ArrayList<>();
+        boolean[] failOnce = {true};
+        ChunkStep<Integer, Integer> step = ChunkStep.<Integer, Integer>builder()
+                .reader(reader(source))
+                .writer(items -> {
+                    if (failOnce[0] && items.contains(7)) {
+                        failOnce[0] = false;
+                        throw new IllegalStateException("write failed");
+                    }
+                    written.addAll(items);
+                })
+                .chunkSize(3)
+                .build();
+
+        ScheduleLog first = scheduleLog("run-1");
+        assertThatThrownBy(() -> chunkJobRunner.run(JOB_KEY, step, first))
+                .isInstanceOf(IllegalStateException.class);
+        ScheduleCheckpoint failed = checkpoints.get(JOB_KEY);
+        assertThat(failed.getCheckpoint()).isEqualTo("6");
+        assertThat(failed.getStatus()).isEqualTo("F");
+        assertThat(failed.getRunId()).isEqualTo("run-1");
+
+        ScheduleLog second = scheduleLog("run-2");
+        ChunkResult result = chunkJobRunner.run(JOB_KEY, step, second);
+
+        assertThat(result.resumedFrom()).isEqualTo("6");
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.readCount()).isEqualTo(4);
+        assertThat(written).containsExactlyElementsOf(source);
+        assertThat(second.getResult()).isEqualTo("S");
+
+        ScheduleCheckpoint completed = checkpoints.get(JOB_KEY);
+        assertThat(completed.getStatus()).isEqualTo("C");
+        assertThat(completed.getRunId()).isEqualTo("run-2");
+        assertThat(completed.getReadCount()).isEqualTo(10);
+        assertThat(completed.getChunkCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("완료된 체크포인트는 재개하지 않고 처음부터 실행")
+    void run_afterCompletion_startsOver() throws Exception {
+        List<Integer> source = IntStream.rangeClosed(1, 5).boxed().toList();
+        ChunkStep<Integer, Integer> step = ChunkStep.<Integer, Integer>builder()
+                .reader(reader(source))
+                .writer(items -> {
+                })
+                .chunkSize(2)
+                .build();
+
+        chunkJobRunner.run(JOB_KEY, step, scheduleLog("run-1"));
+        ChunkResult result = chunkJobRunner.run(JOB_KEY, step, scheduleLog("run-2"));
+
+        assertThat(result.resumedFrom()).isNull();
+        assertThat(result.readCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("병렬 변환 결과는 구간 완료 순서와 관계없이 원래 순서로 기록 (null 결과 제외)")
+    void run_parallelSlicesKeepOrder() throws Exception {
+        List<Integer> source = IntStream.range(0, 100).boxed().toList();
+        List<Integer> written = new ArrayList<>();
+        ChunkStep<Integer, Integer> step = ChunkStep.<Integer, Integer>builder()
+                .reader(reader(source))
+                .processor(item -> {
+                    // 앞 구간이 늦게 끝나도록 지연
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3) + (item < 25 ? 5 : 0));
+                    return item % 10 == 0 ? null : item * 2;
+                })
+                .writer(written::addAll)
+                .chunkSize(50)
+                .parallelism(4)
+                .build();
+
+        ChunkResult result = chunkJobRunner.run(JOB_KEY, step, scheduleLog("run-1"));
+
+        List<Integer> expected = source.stream().filter(item -> item % 10 != 0).map(item -> item * 2).toList();
+        assertThat(written).containsExactlyElementsOf(expected);
+        assertThat(result.readCount()).isEqualTo(100);
+        assertThat(result.writeCount()).isEqualTo(expected.size());
+    }
+
+    private static ChunkReader<Integer> reader(List<Integer> source) {
+        return new ChunkReader<>() {
+            @Override
+            public List<Integer> read(String checkpoint, int size) {
+                int after = checkpoint != null ? Integer.parseInt(checkpoint) : Integer.MIN_VALUE;
+                return source.stream().filter(item -> item > after).limit(size).toList();
+            }
+
+            @Override
+            public String checkpointOf(Integer item) {
+                return String.valueOf(item);
+            }
+        };
+    }
+
+    private static ScheduleLog scheduleLog(String runId) {
+        return ScheduleLog.builder().beanName(JOB_KEY).result("I").runId(runId).build();
+    }
+}
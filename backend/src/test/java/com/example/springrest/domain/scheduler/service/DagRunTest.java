@@ -0,0 +1,62 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.domain.scheduler.model.entity.ScheduleDependency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DagRun 단위 테스트
+ */
+@DisplayName("DagRun 테스트")
+class DagRunTest {
+
+    // 1 -> 2 -> 4, 1 -> 3 -> 4, 4 -> 5, 9 -> 4 (9 는 이번 실행 범위 밖)
+    private final ScheduleGraph graph = ScheduleGraph.of(List.of(
+            new ScheduleDependency(2L, 1L),
+            new ScheduleDependency(3L, 1L),
+            new ScheduleDependency(4L, 2L),
+            new ScheduleDependency(4L, 3L),
+            new ScheduleDependency(4L, 9L),
+            new ScheduleDependency(5L, 4L)));
+
+    @Test
+    @DisplayName("선행이 모두 성공해야 후속 준비 (범위 밖 선행은 기다리지 않음)")
+    void complete_success() {
+        DagRun run = new DagRun("run", 1L, graph);
+
+        assertThat(run.complete(1L, true).ready()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(run.complete(2L, true).ready()).isEmpty();
+        assertThat(run.complete(3L, true).ready()).containsExactly(4L);
+        assertThat(run.complete(4L, true).ready()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("선행 실패 시 후속과 그 후속까지 건너뜀")
+    void complete_failurePropagates() {
+        DagRun run = new DagRun("run", 1L, graph);
+        run.complete(1L, true);
+
+        DagRun.Step afterFailure = run.complete(2L, false);
+        assertThat(afterFailure.ready()).isEmpty();
+        assertThat(afterFailure.skipped()).isEmpty(); // 3 이 아직 실행 중
+
+        DagRun.Step step = run.complete(3L, true);
+        assertThat(step.ready()).isEmpty();
+        assertThat(step.skipped()).containsExactly(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("루트 실패 시 모든 후속 건너뜀")
+    void complete_rootFailure() {
+        DagRun run = new DagRun("run", 1L, graph);
+
+        DagRun.Step step = run.complete(1L, false);
+
+        assertThat(step.ready()).isEmpty();
+        assertThat(step.skipped()).containsExactlyInAnyOrder(2L, 3L, 4L, 5L);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.domain.scheduler.model.entity.ScheduleDependency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScheduleGraph 단위 테스트
+ */
+@DisplayName("ScheduleGraph 테스트")
+class ScheduleGraphTest {
+
+    // 1 -> 2 -> 4, 1 -> 3 -> 4
+    private final ScheduleGraph graph = ScheduleGraph.of(List.of(
+            new ScheduleDependency(2L, 1L),
+            new ScheduleDependency(3L, 1L),
+            new ScheduleDependency(4L, 2L),
+            new ScheduleDependency(4L, 3L)));
+
+    @Test
+    @DisplayName("선행/후속 조회")
+    void parentsAndChildren() {
+        assertThat(graph.parents(4L)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(graph.children(1L)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(graph.hasParents(1L)).isFalse();
+        assertThat(graph.hasChildren(4L)).isFalse();
+        assertThat(graph.descendants(1L)).containsExactlyInAnyOrder(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("후속 스케줄을 선행으로 지정하면 순환")
+    void withParents_cycle() {
+        assertThat(graph.withParents(1L, List.of(4L)).hasCycleThrough(1L)).isTrue();
+        assertThat(graph.withParents(2L, List.of(2L)).hasCycleThrough(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("선행 교체는 기존 선행 관계를 대체하며 순환이 없으면 허용")
+    void withParents_replacesParents() {
+        ScheduleGraph replaced = graph.withParents(4L, List.of(1L));
+
+        assertThat(replaced.hasCycleThrough(4L)).isFalse();
+        assertThat(replaced.parents(4L)).containsExactly(1L);
+        assertThat(replaced.children(2L)).isEmpty();
+        assertThat(graph.parents(4L)).containsExactlyInAnyOrder(2L, 3L); // 원본 불변
+    }
+
+    @Test
+    @DisplayName("선행 집합 비교는 순서와 무관")
+    void sameParents() {
+        ScheduleGraph reordered = ScheduleGraph.of(List.of(
+                new ScheduleDependency(4L, 3L),
+                new ScheduleDependency(4L, 2L)));
+
+        assertThat(graph.sameParents(reordered, 4L)).isTrue();
+        assertThat(graph.sameParents(reordered, 2L)).isFalse();
+        assertThat(graph.sameParents(ScheduleGraph.empty(), 1L)).isTrue();
+    }
+}
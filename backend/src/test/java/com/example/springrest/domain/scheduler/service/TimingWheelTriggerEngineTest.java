@@ -0,0 +1,176 @@
+package com.example.springrest.domain.scheduler.service;
+
+import com.example.springrest.config.scheduler.SchedulerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TimingWheelTriggerEngine 테스트 (시계를 직접 진행하며 휠 스레드 없이 틱 처리)
+ */
+@DisplayName("TimingWheelTriggerEngine 테스트")
+class TimingWheelTriggerEngineTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final Duration TICK = Duration.ofMillis(100);
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0, 0);
+
+    private MutableClock clock;
+    private TimingWheelTriggerEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        // 틱 경계에 걸리지 않도록 시작 시각을 반 틱 뒤로
+        clock = new MutableClock(START.plus(TICK.dividedBy(2)).toInstant(ZoneOffset.UTC), ZONE);
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.getWheel().setTick(TICK);
+        engine = new TimingWheelTriggerEngine(properties, clock);
+    }
+
+    @Test
+    @DisplayName("예정 시각이 속한 틱에서 실행되고 그 전에는 실행되지 않음")
+    void fireAtExpectedTick() {
+        List<LocalDateTime> fired = new ArrayList<>();
+        engine.schedule("*/5 * * * * *", fired::add);
+
+        runUntil(START.plusSeconds(5).minus(TICK));
+        assertThat(fired).isEmpty();
+
+        runUntil(START.plusSeconds(5));
+        assertThat(fired).containsExactly(START.plusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("상위 단계에 걸린 항목이 cascade 되어 정확히 한 번 실행")
+    void cascadeAcrossLevels() {
+        List<LocalDateTime> hourly = new ArrayList<>();
+        List<LocalDateTime> daily = new ArrayList<>();
+        engine.schedule("0 0 * * * *", hourly::add); // 36,000틱 뒤: 2단계
+        engine.schedule("0 0 0 * * *", daily::add); // 864,000틱 뒤: 3단계
+
+        runUntil(START.plusHours(1).minus(TICK));
+        assertThat(hourly).isEmpty();
+
+        runUntil(START.plusHours(1));
+        assertThat(hourly).containsExactly(START.plusHours(1));
+
+        runUntil(START.plusDays(1));
+        assertThat(hourly).hasSize(24).last().isEqualTo(START.plusDays(1));
+        assertThat(daily).containsExactly(START.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("휠에 반영되기 전에 취소한 항목은 실행되지 않음")
+    void cancelPending() {
+        List<LocalDateTime> fired = new ArrayList<>();
+        engine.schedule("*/5 * * * * *", fired::add).cancel();
+
+        runUntil(START.plusSeconds(30));
+        assertThat(fired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("휠에 연결된 항목을 취소하면 이후 실행되지 않고 같은 슬롯의 다른 항목은 유지")
+    void cancelLinked() {
+        List<LocalDateTime> cancelled = new ArrayList<>();
+        List<LocalDateTime> kept = new ArrayList<>();
+        ScheduleTriggerEngine.TriggerHandle handle = engine.schedule("*/5 * * * * *", cancelled::add);
+        engine.schedule("*/5 * * * * *", kept::add);
+
+        runUntil(START.plusSeconds(1));
+        handle.cancel();
+        runUntil(START.plusSeconds(10));
+
+        assertThat(cancelled).isEmpty();
+        assertThat(kept).containsExactly(START.plusSeconds(5), START.plusSeconds(10));
+    }
+
+    @Test
+    @DisplayName("실행 후 같은 항목이 다음 예정 시각으로 다시 걸림")
+    void rescheduleAfterFire() {
+        List<LocalDateTime> fired = new ArrayList<>();
+        ScheduleTriggerEngine.TriggerHandle handle = engine.schedule("*/5 * * * * *", fired::add);
+
+        runUntil(START.plusSeconds(20));
+        assertThat(fired).containsExactly(START.plusSeconds(5), START.plusSeconds(10), START.plusSeconds(15),
+                START.plusSeconds(20));
+
+        // 실행 이후 취소도 반영
+        handle.cancel();
+        runUntil(START.plusSeconds(40));
+        assertThat(fired).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("휠이 밀려 지난 예정 시각은 한 번만 실행하고 건너뜀")
+    void skipMissedFireTimes() {
+        List<LocalDateTime> fired = new ArrayList<>();
+        engine.schedule("*/5 * * * * *", fired::add);
+        engine.advanceToNow();
+
+        // 20초 동안 휠이 멈췄다가 한 번에 진행
+        clock.set(START.plusSeconds(20).plus(TICK.dividedBy(2)));
+        engine.advanceToNow();
+        assertThat(fired).containsExactly(START.plusSeconds(5));
+
+        runUntil(START.plusSeconds(25));
+        assertThat(fired).containsExactly(START.plusSeconds(5), START.plusSeconds(25));
+    }
+
+    /**
+     * 틱 단위로 시계를 진행하며 휠 처리 (실제 휠 스레드와 같은 순서)
+     */
+    private void runUntil(LocalDateTime until) {
+        engine.advanceToNow();
+        Instant end = until.toInstant(ZoneOffset.UTC);
+        while (clock.instant().isBefore(end)) {
+            Instant next = clock.instant().plus(TICK);
+            clock.set(next.isAfter(end) ? end : next);
+            engine.advanceToNow();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+        private final ZoneId zone;
+
+        private MutableClock(Instant now, ZoneId zone) {
+            this.now = now;
+            this.zone = zone;
+        }
+
+        private void set(LocalDateTime time) {
+            now = time.toInstant(ZoneOffset.UTC);
+        }
+
+        private void set(Instant instant) {
+            now = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(now, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.springrest.global.common.repository;
+
+import com.example.springrest.domain.order.model.entity.Order;
+import com.example.springrest.domain.order.repository.OrderMapper;
+import com.example.springrest.domain.user.repository.UserInfoMapper;
+import com.example.springrest.global.util.CursorCodec;
+import com.example.springrest.global.util.Keyset;
+import com.example.springrest.global.util.SortValidator;
+import com.example.springrest.global.util.SortValidator.SortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CursorSqlProvider SQL 생성 테스트
+ */
+@DisplayName("CursorSqlProvider 테스트")
+class CursorSqlProviderTest {
+
+    private final SortValidator sortValidator = new SortValidator();
+
+    @CursorTable(name = "tb_orders", columns = "order_id, order_amt", sortTable = "orders",
+            defaultSort = "sysInsertDtm,desc", activeColumn = "use_yn")
+    private interface ActiveOnlyOrderMapper {
+    }
+
+    @Test
+    @DisplayName("첫 페이지: 지정 컬럼만 정렬 조건으로 조회 (use_yn 과 관계없이 조회)")
+    void build_firstPage() {
+        CursorTable table = OrderMapper.class.getAnnotation(CursorTable.class);
+        Keyset keyset = CursorCodec.decode(sortValidator.parseKeysetSort("orders", null, table.defaultSort()), null,
+                10);
+
+        String sql = CursorSqlProvider.build(table, keyset);
+
+        assertThat(sql).isEqualTo("SELECT " + table.columns() + " FROM tb_orders"
+                + " ORDER BY sys_insert_dtm desc, order_id desc LIMIT #{limit}");
+    }
+
+    @Test
+    @DisplayName("다음 페이지: 커서 값은 바인드 파라미터로 행 값 비교")
+    void build_nextPage() {
+        CursorTable table = OrderMapper.class.getAnnotation(CursorTable.class);
+        List<SortKey> keys = sortValidator.parseKeysetSort("orders", "orderAmt,asc", table.defaultSort());
+        Order last = Order.builder().orderId("ORD-1").orderAmt(5000L).build();
+        Keyset keyset = CursorCodec.decode(keys, CursorCodec.encode(keys, last), 10);
+
+        String sql = CursorSqlProvider.build(table, keyset);
+
+        assertThat(sql).endsWith(" FROM tb_orders"
+                + " WHERE (order_amt, order_id) > (#{cursor.values[0]}, #{cursor.values[1]})"
+                + " ORDER BY order_amt asc, order_id asc LIMIT #{limit}");
+        assertThat(keyset.getValues()).containsExactly(5000L, "ORD-1");
+    }
+
+    @Test
+    @DisplayName("사용자 조회 컬럼에 비밀번호가 포함되지 않음")
+    void build_userColumns_excludePassword() {
+        CursorTable table = UserInfoMapper.class.getAnnotation(CursorTable.class);
+        Keyset keyset = CursorCodec.decode(sortValidator.parseKeysetSort("users", null, table.defaultSort()), null,
+                10);
+
+        String sql = CursorSqlProvider.build(table, keyset);
+
+        assertThat(sql).doesNotContain("*").doesNotContainIgnoringCase("USER_PWD");
+        assertThat(sql).contains("FROM CHMM_USER_INFO ORDER BY user_id asc");
+    }
+
+    @Test
+    @DisplayName("activeColumn 을 지정하면 사용 중인 행만 커서 조건과 함께 조회")
+    void build_activeColumn() {
+        CursorTable table = ActiveOnlyOrderMapper.class.getAnnotation(CursorTable.class);
+        List<SortKey> keys = sortValidator.parseKeysetSort("orders", "orderAmt,asc", table.defaultSort());
+        Order last = Order.builder().orderId("ORD-1").orderAmt(5000L).build();
+        Keyset keyset = CursorCodec.decode(keys, CursorCodec.encode(keys, last), 10);
+
+        String sql = CursorSqlProvider.build(table, keyset);
+
+        assertThat(sql).isEqualTo("SELECT order_id, order_amt FROM tb_orders WHERE use_yn = '1'"
+                + " AND (order_amt, order_id) > (#{cursor.values[0]}, #{cursor.values[1]})"
+                + " ORDER BY order_amt asc, order_id asc LIMIT #{limit}");
+    }
+
+    @Test
+    @DisplayName("시간 정렬 키 커서도 같은 타입으로 복원")
+    void build_timeKey() {
+        CursorTable table = OrderMapper.class.getAnnotation(CursorTable.class);
+        List<SortKey> keys = sortValidator.parseKeysetSort("orders", null, table.defaultSort());
+        LocalDateTime insertedAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        Order last = Order.builder().orderId("ORD-2").sysInsertDtm(insertedAt).build();
+
+        Keyset keyset = CursorCodec.decode(keys, CursorCodec.encode(keys, last), 10);
+
+        assertThat(CursorSqlProvider.build(table, keyset)).contains("(sys_insert_dtm, order_id) < ");
+        assertThat(keyset.getValues()).containsExactly(insertedAt, "ORD-2");
+    }
+}
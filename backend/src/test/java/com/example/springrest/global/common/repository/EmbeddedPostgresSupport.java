@@ -0,0 +1,113 @@
+package com.example.springrest.global.common.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매퍼 SQL 실행 계획 검증용 내장 PostgreSQL
+ * 실제 마이그레이션 (공통 + PostgreSQL 전용) 적용 후 매퍼 XML 을 MyBatis 설정에 올려 EXPLAIN 결과를 돌려준다.
+ */
+public final class EmbeddedPostgresSupport implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final DataSource dataSource;
+    private final Configuration configuration;
+
+    private EmbeddedPostgresSupport(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+        this.dataSource = postgres.getPostgresDatabase();
+        this.configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        this.configuration.setMapUnderscoreToCamelCase(true);
+    }
+
+    /**
+     * 내장 PostgreSQL 기동, 마이그레이션 적용, 매퍼 XML 로딩
+     */
+    public static EmbeddedPostgresSupport start(String... mapperResources) throws IOException {
+        EmbeddedPostgresSupport support = new EmbeddedPostgresSupport(EmbeddedPostgres.start());
+        try {
+            Flyway.configure()
+                    .dataSource(support.dataSource)
+                    .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                    .load()
+                    .migrate();
+            for (String resource : mapperResources) {
+                try (InputStream in = Resources.getResourceAsStream(resource)) {
+                    new XMLMapperBuilder(in, support.configuration, resource,
+                            support.configuration.getSqlFragments()).parse();
+                }
+            }
+        } catch (RuntimeException | IOException e) {
+            support.close();
+            throw e;
+        }
+        return support;
+    }
+
+    /**
+     * 테스트 데이터 적재 등 SQL 순서대로 실행
+     */
+    public void execute(String... sqls) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * 매퍼 구문을 파라미터 바인딩 그대로 EXPLAIN 하여 계획 행 목록 반환
+     *
+     * @param options  EXPLAIN 옵션 (예: "ANALYZE, COSTS OFF")
+     * @param settings 같은 커넥션에서 먼저 실행할 SET 구문 (예: "SET enable_seqscan = off")
+     */
+    public List<String> explain(Class<?> mapper, String statementId, Object params, String options,
+            String... settings) throws SQLException {
+        MappedStatement statement = configuration.getMappedStatement(mapper.getName() + "." + statementId);
+        BoundSql boundSql = statement.getBoundSql(params);
+
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement setting = connection.createStatement()) {
+                for (String sql : settings) {
+                    setting.execute(sql);
+                }
+            }
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "EXPLAIN (" + options + ") " + boundSql.getSql())) {
+                new DefaultParameterHandler(statement, params, boundSql).setParameters(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plan.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+        return plan;
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.springrest.global.common.repository;
+
+import com.example.springrest.domain.menu.repository.MenuInfoMapper;
+import com.example.springrest.domain.order.repository.OrderMapper;
+import com.example.springrest.domain.user.repository.UserInfoMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 이름 검색 pg_trgm 인덱스 사용 검증 (내장 PostgreSQL + 실제 마이그레이션 / 매퍼 XML SQL)
+ * 3자 이상 부분 일치와 3자 미만 앞부분 일치 모두 trigram GIN 인덱스로 처리되어야 한다.
+ */
+@DisplayName("이름 검색 trigram 인덱스 테스트")
+class TrigramSearchIndexTest {
+
+    private static final Pattern BITMAP_INDEX_SCAN = Pattern.compile("Bitmap Index Scan on (\\S+)");
+
+    private static EmbeddedPostgresSupport postgres;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        postgres = EmbeddedPostgresSupport.start("mapper/OrderMapper.xml", "mapper/UserInfoMapper.xml",
+                "mapper/MenuInfoMapper.xml");
+
+        // 이름은 md5 16진수 문자열 (검색어 'c4ca4' 는 g = 1 의 이름에만 포함)
+        postgres.execute("""
+                WITH keys AS (
+                    INSERT INTO tb_order_keys (order_id, order_date)
+                    SELECT 'T' || LPAD(g::text, 8, '0'), DATE '%s' + (g %% 28) * INTERVAL '1 day'
+                    FROM generate_series(1, 20000) g
+                    RETURNING order_id, order_date
+                )
+                INSERT INTO tb_orders (order_id, cust_nm, order_nm, order_amt, order_date)
+                SELECT order_id, md5(order_id), 'item', 1000, order_date FROM keys
+                """.formatted(YearMonth.now().atDay(1)),
+                """
+                INSERT INTO CHMM_USER_INFO (USER_ID, USER_NAME)
+                SELECT 'trgm' || g, md5(g::text) FROM generate_series(1, 20000) g
+                """,
+                """
+                INSERT INTO CHMM_MENU_INFO (MENU_ID, MENU_LVL, MENU_NAME)
+                SELECT 'TRGM' || g, 1, md5(g::text) FROM generate_series(1, 20000) g
+                """,
+                "ANALYZE tb_orders",
+                "ANALYZE CHMM_USER_INFO",
+                "ANALYZE CHMM_MENU_INFO");
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "c4ca4", "c4" })
+    @DisplayName("주문 고객명 검색은 trigram 인덱스 사용")
+    void orderCustNm_usesTrigramIndex(String custNm) throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("custNm", custNm);
+        params.put("startDate", null);
+        params.put("endDate", null);
+        params.put("sort", null);
+
+        // 파티션별 인덱스는 자동 이름 (tb_orders_yyyymm_cust_nm_idx, tb_orders_default_cust_nm_idx)
+        assertUsesIndex(OrderMapper.class, "findAllWithSearch", params, "tb_orders_(\\d{6}|default)_cust_nm_idx");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "c4ca4", "c4" })
+    @DisplayName("사용자명 검색은 trigram 인덱스 사용")
+    void userName_usesTrigramIndex(String userName) throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("userName", userName);
+        params.put("startDate", null);
+        params.put("endDate", null);
+        params.put("sort", null);
+
+        assertUsesIndex(UserInfoMapper.class, "findAllWithSearch", params, "idx_chmm_user_info_name_trgm");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "c4ca4", "c4" })
+    @DisplayName("메뉴 아이디/명 검색은 trigram 인덱스 사용")
+    void menuSearch_usesTrigramIndex(String searchId) throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("searchId", searchId);
+
+        assertUsesIndex(MenuInfoMapper.class, "findAllWithSearch", params, "idx_chmm_menu_info_(id|name)_trgm");
+    }
+
+    /**
+     * EXPLAIN 결과의 bitmap 인덱스 스캔이 모두 기대한 trigram 인덱스이고 순차 스캔이 없는지 확인
+     * 테스트 데이터가 작아 비용상 순차 스캔이 선택되지 않도록 enable_seqscan 을 끈다 (인덱스를 쓸 수 없으면 그래도 순차 스캔).
+     */
+    private static void assertUsesIndex(Class<?> mapper, String statementId, Map<String, Object> params,
+            String indexPattern) throws Exception {
+        String plan = String.join("\n", postgres.explain(mapper, statementId, params, "COSTS OFF",
+                "SET enable_seqscan = off"));
+
+        assertThat(plan).doesNotContain("Seq Scan");
+        Matcher matcher = BITMAP_INDEX_SCAN.matcher(plan);
+        List<String> indexes = new ArrayList<>();
+        while (matcher.find()) {
+            indexes.add(matcher.group(1));
+        }
+        assertThat(indexes).isNotEmpty().allMatch(index -> index.matches(indexPattern));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.domain.order.model.entity.Order;
+import com.example.springrest.global.util.SortValidator.SortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CursorCodec / Keyset 테스트
+ */
+@DisplayName("CursorCodec 테스트")
+class CursorCodecTest {
+
+    private final SortValidator sortValidator = new SortValidator();
+
+    @Test
+    @DisplayName("마지막 행으로 만든 커서를 같은 정렬 조건으로 복원")
+    void roundTrip() {
+        List<SortKey> keys = sortValidator.parseKeysetSort("orders", "orderAmt,desc,orderDate,desc", null);
+        LocalDateTime orderDate = LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_000_000);
+        Order last = Order.builder().orderId("ORD-9").orderAmt(15000L).orderDate(orderDate).build();
+
+        Keyset keyset = CursorCodec.decode(keys, CursorCodec.encode(keys, last), 30);
+
+        assertThat(keyset.getValues()).containsExactly(15000L, orderDate, "ORD-9");
+        assertThat(keyset.getOperator()).isEqualTo("<");
+        assertThat(keyset.getOrderBy()).isEqualTo("order_amt desc, order_date desc, order_id desc");
+        assertThat(keyset.getSize()).isEqualTo(30);
+        assertThat(keyset.getLimit()).isEqualTo(31);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 크기는 기본값/최대값으로 보정")
+    void firstPage_sizeBounds() {
+        List<SortKey> keys = sortValidator.parseKeysetSort("users", null, "userId,asc");
+
+        assertThat(CursorCodec.decode(keys, null, null).getValues()).isNull();
+        assertThat(CursorCodec.decode(keys, " ", 0).getSize()).isEqualTo(Keyset.DEFAULT_SIZE);
+        assertThat(CursorCodec.decode(keys, null, 100_000).getSize()).isEqualTo(Keyset.MAX_SIZE);
+        assertThat(CursorCodec.decode(keys, null, null).getOperator()).isEqualTo(">");
+    }
+
+    @Test
+    @DisplayName("다른 정렬 조건으로 만든 커서는 거부")
+    void decode_sortMismatch() {
+        List<SortKey> byAmount = sortValidator.parseKeysetSort("orders", "orderAmt,asc", null);
+        List<SortKey> byDate = sortValidator.parseKeysetSort("orders", "orderDate,asc", null);
+        String cursor = CursorCodec.encode(byAmount,
+                Order.builder().orderId("ORD-1").orderAmt(100L).build());
+
+        assertThatThrownBy(() -> CursorCodec.decode(byDate, cursor, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정렬 조건");
+    }
+
+    @Test
+    @DisplayName("변조되거나 형식이 잘못된 커서는 IllegalArgumentException")
+    void decode_tampered() {
+        List<SortKey> keys = sortValidator.parseKeysetSort("orders", "orderAmt,asc", null);
+        String signature = "order_amt asc,order_id asc";
+
+        // Base64 아님
+        assertThatThrownBy(() -> CursorCodec.decode(keys, "not a cursor!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 값 개수 불일치
+        assertThatThrownBy(() -> CursorCodec.decode(keys, token("{\"s\":\"" + signature + "\",\"v\":[\"1\"]}"), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 숫자 키에 숫자가 아닌 값
+        assertThatThrownBy(() -> CursorCodec.decode(keys,
+                token("{\"s\":\"" + signature + "\",\"v\":[\"1 OR 1=1\",\"ORD-1\"]}"), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 값 배열 없음
+        assertThatThrownBy(() -> CursorCodec.decode(keys, token("{\"s\":\"" + signature + "\"}"), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 키 값이 없는 행으로는 커서를 만들 수 없음")
+    void encode_nullKey() {
+        List<SortKey> keys = sortValidator.parseKeysetSort("orders", "orderAmt,asc", null);
+
+        assertThatThrownBy(() -> CursorCodec.encode(keys, Order.builder().orderId("ORD-1").build()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String token(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
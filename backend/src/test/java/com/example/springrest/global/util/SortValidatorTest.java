@@ -0,0 +1,80 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.global.util.SortValidator.SortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SortValidator 다중 컬럼 / 커서 정렬 검증 테스트
+ */
+@DisplayName("SortValidator 테스트")
+class SortValidatorTest {
+
+    private final SortValidator sortValidator = new SortValidator();
+
+    @Test
+    @DisplayName("유일 보조 정렬 컬럼을 마지막 방향으로 추가")
+    void parseSort_appendsTiebreaker() {
+        List<SortKey> keys = sortValidator.parseSort("orders", "custNm,asc,orderAmt,desc", null);
+
+        assertThat(keys).extracting(SortKey::getOrderBy)
+                .containsExactly("cust_nm asc", "order_amt desc", "order_id desc");
+        assertThat(keys).extracting(SortKey::getProperty).containsExactly("custNm", "orderAmt", "orderId");
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 없으면 기본 정렬, 방향 생략 시 asc")
+    void parseSort_default() {
+        assertThat(sortValidator.parseSort("users", "", "userName"))
+                .extracting(SortKey::getOrderBy)
+                .containsExactly("user_name asc", "user_id asc");
+    }
+
+    @Test
+    @DisplayName("같은 컬럼을 두 번 지정하면 거부")
+    void parseSort_duplicateColumn() {
+        assertThatThrownBy(() -> sortValidator.parseSort("orders", "orderAmt,asc,orderAmt,desc", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate sort column");
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 컬럼/테이블은 거부")
+    void parseSort_invalidColumn() {
+        assertThatThrownBy(() -> sortValidator.parseSort("orders", "orderAmt;drop table", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sortValidator.parseSort("users", "userPwd,asc", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sortValidator.parseSort("unknown", "id", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("커서 정렬은 방향이 섞이면 거부")
+    void parseKeysetSort_mixedDirection() {
+        assertThatThrownBy(() -> sortValidator.parseKeysetSort("orders", "orderAmt,desc,orderDate,asc", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정렬 방향");
+    }
+
+    @Test
+    @DisplayName("커서 정렬은 NULL 허용 컬럼을 거부")
+    void parseKeysetSort_nullableColumn() {
+        assertThatThrownBy(() -> sortValidator.parseKeysetSort("users", "userEmail,asc", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("NULL");
+    }
+
+    @Test
+    @DisplayName("커서 정렬 키는 값 타입을 함께 가짐")
+    void parseKeysetSort_types() {
+        List<SortKey> keys = sortValidator.parseKeysetSort("orders", "orderAmt,desc", null);
+
+        assertThat(keys).extracting(SortKey::getType).containsExactly(Long.class, String.class);
+        assertThat(keys).allMatch(SortKey::isDesc);
+    }
+}
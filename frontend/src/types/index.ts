@@ -10,7 +10,16 @@ export interface PageResponse<T> {
     pageNum: number;
     pageSize: number;
     pages: number;
-}export interface UserDetail {
+}
+
+export interface CursorPage<T> {
+    list: T[];
+    size: number;
+    hasNext: boolean;
+    nextCursor?: string;
+}
+
+export interface UserDetail {
     userId: string;
     userEmail: string;
     userMobile: string;
@@ -77,8 +86,10 @@ export interface Schedule {
     beanParam?: string;
     used: boolean;
     dupStop: boolean;
+    timeoutSec?: number;
     cron: string;
     comment?: string;
+    parentUids?: number[];
     createTime?: string;
     creator?: string;
     updateTime?: string;
@@ -90,8 +101,10 @@ export interface ScheduleRequest {
     beanParam?: string;
     used: boolean;
     dupStop: boolean;
+    timeoutSec?: number;
     cron: string;
     comment?: string;
+    parentUids?: number[];
     creator?: string;
     updater?: string;
 }
@@ -106,5 +119,18 @@ export interface ScheduleLog {
     startTime?: string;
     endTime?: string;
     worker?: string;
+    runId?: string;
+}
+
+export interface ScheduleEvent {
+    type: 'START' | 'PROGRESS' | 'END';
+    uid: number;
+    beanName: string;
+    runId?: string;
+    percent?: number;
+    processed?: number;
+    message?: string;
+    result?: string;
+    time: string;
 }
 